@@ -0,0 +1,75 @@
+package com.jashburn.junit5.assertions;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Computes the ages of a batch of dates of birth with {@link AgeCalculator}, sequentially and in
+ * parallel, against {@code Period.between} per record. Also times a 30-day birthday window query.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AgeCalculatorBenchmark {
+
+    private static final LocalDate TODAY = LocalDate.of(2020, 6, 15);
+
+    @Param({"1000000"})
+    private int size;
+
+    private final AgeCalculator calculator = new AgeCalculator(TODAY);
+    private int[] epochDays;
+    private LocalDate[] datesOfBirth;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        epochDays = new SplittableRandom(42).ints(size, -20_000, 18_000).toArray();
+        datesOfBirth = new LocalDate[size];
+        for (int i = 0; i < size; i++) {
+            datesOfBirth[i] = LocalDate.ofEpochDay(epochDays[i]);
+        }
+    }
+
+    @Benchmark
+    public int[] period() {
+        int[] ages = new int[size];
+        for (int i = 0; i < size; i++) {
+            ages[i] = Period.between(datesOfBirth[i], TODAY).getYears();
+        }
+        return ages;
+    }
+
+    @Benchmark
+    public int[] ages() {
+        return calculator.ages(epochDays);
+    }
+
+    @Benchmark
+    public int[] agesParallel() {
+        return calculator.agesParallel(epochDays);
+    }
+
+    @Benchmark
+    public int[] birthdaysWithin() {
+        return calculator.birthdaysWithin(epochDays, 30);
+    }
+
+    @Benchmark
+    public int[] birthdaysWithinParallel() {
+        return calculator.birthdaysWithinParallel(epochDays, 30);
+    }
+}
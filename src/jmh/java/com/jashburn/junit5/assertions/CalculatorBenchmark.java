@@ -0,0 +1,48 @@
+package com.jashburn.junit5.assertions;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the scalar arithmetic operations of {@link Calculator}.
+ * <p>
+ * Operands are read from non-final fields so that the JIT cannot constant-fold the results.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CalculatorBenchmark {
+
+    private final Calculator calculator = new Calculator();
+
+    private int a = 1_234_567;
+    private int b = 89;
+
+    @Benchmark
+    public int add() {
+        return calculator.add(a, b);
+    }
+
+    @Benchmark
+    public int subtract() {
+        return calculator.subtract(a, b);
+    }
+
+    @Benchmark
+    public int multiply() {
+        return calculator.multiply(a, b);
+    }
+
+    @Benchmark
+    public int divide() {
+        return calculator.divide(a, b);
+    }
+}
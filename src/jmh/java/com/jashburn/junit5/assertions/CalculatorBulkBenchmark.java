@@ -0,0 +1,99 @@
+package com.jashburn.junit5.assertions;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import com.jashburn.junit5.assertions.Calculator.Overflow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the bulk array operations of {@link Calculator} with a loop over the scalar methods.
+ * <p>
+ * The fork disables superword optimisation in a second run ({@code -XX:-UseSuperWord}) for the
+ * {@code *NoSimd} benchmarks, to show how much of the bulk speedup comes from vectorization.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CalculatorBulkBenchmark {
+
+    @Param({"1024", "65536"})
+    private int size;
+
+    private final Calculator calculator = new Calculator();
+    private int[] a;
+    private int[] b;
+    private int[] out;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        a = random.ints(size).toArray();
+        b = random.ints(size).toArray();
+        out = new int[size];
+    }
+
+    @Benchmark
+    public int[] scalarAdd() {
+        for (int i = 0; i < size; i++) {
+            out[i] = calculator.add(a[i], b[i]);
+        }
+        return out;
+    }
+
+    @Benchmark
+    public int[] scalarAddSaturate() {
+        for (int i = 0; i < size; i++) {
+            out[i] = calculator.add(a[i], b[i], Overflow.SATURATE);
+        }
+        return out;
+    }
+
+    @Benchmark
+    public int[] bulkAdd() {
+        calculator.add(a, b, out, Overflow.WRAP);
+        return out;
+    }
+
+    @Benchmark
+    public int[] bulkAddSaturate() {
+        calculator.add(a, b, out, Overflow.SATURATE);
+        return out;
+    }
+
+    @Benchmark
+    public int[] bulkMultiply() {
+        calculator.multiply(a, b, out, Overflow.WRAP);
+        return out;
+    }
+
+    @Benchmark
+    public int[] bulkMultiplySaturate() {
+        calculator.multiply(a, b, out, Overflow.SATURATE);
+        return out;
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-XX:-UseSuperWord")
+    public int[] bulkAddNoSimd() {
+        calculator.add(a, b, out, Overflow.WRAP);
+        return out;
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-XX:-UseSuperWord")
+    public int[] bulkAddSaturateNoSimd() {
+        calculator.add(a, b, out, Overflow.SATURATE);
+        return out;
+    }
+}
@@ -0,0 +1,59 @@
+package com.jashburn.junit5.assertions;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Evaluates a formula through a {@link CompiledExpression}, against compiling it each time with a
+ * cold cache, looking it up in a warm cache, and the same arithmetic written directly against
+ * {@link Calculator}.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExpressionCompilerBenchmark {
+
+    private static final String FORMULA = "(price - discount) * qty / 100 + price * 2";
+
+    private final Calculator calculator = new Calculator();
+    private final ExpressionCompiler compiler = new ExpressionCompiler();
+    private CompiledExpression expression;
+    private int[] values;
+
+    @Setup
+    public void setUp() {
+        expression = compiler.compile(FORMULA);
+        values = new int[] {200, 20, 3};
+    }
+
+    @Benchmark
+    public int evaluateCompiled() {
+        return expression.evaluate(values);
+    }
+
+    @Benchmark
+    public int evaluateDirect() {
+        return calculator.add(calculator.divide(calculator.multiply(
+                calculator.subtract(values[0], values[1]), values[2]), 100),
+                calculator.multiply(values[0], 2));
+    }
+
+    @Benchmark
+    public int compileAndEvaluateUncached() {
+        return new ExpressionCompiler().compile(FORMULA).evaluate(values);
+    }
+
+    @Benchmark
+    public int compileAndEvaluateCached() {
+        return compiler.compile(FORMULA).evaluate(values);
+    }
+}
@@ -0,0 +1,51 @@
+package com.jashburn.junit5.assertions;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import com.jashburn.junit5.assertions.Person.Gender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Greets a {@link Person} with the memoized {@link Person#greeting()}, against concatenating the
+ * greeting on every call as it used to be, and renders a longer {@link GreetingTemplate} into a
+ * new {@code String} and into a reused {@code StringBuilder}.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GreetingTemplateBenchmark {
+
+    private final Person person = new Person("Jane", "Doe", Gender.F, LocalDate.of(1990, 5, 20));
+    private final GreetingTemplate template =
+            GreetingTemplate.compile("Dear {firstName} {lastName}, born {dateOfBirth}");
+    private final StringBuilder out = new StringBuilder(64);
+
+    @Benchmark
+    public String memoizedGreeting() {
+        return person.greeting();
+    }
+
+    @Benchmark
+    public String concatenatedGreeting() {
+        return "Hi! I'm " + person.getFirstName();
+    }
+
+    @Benchmark
+    public String renderToString() {
+        return template.render(person);
+    }
+
+    @Benchmark
+    public StringBuilder renderToReusedBuilder() {
+        out.setLength(0);
+        return template.renderTo(person, out);
+    }
+}
@@ -0,0 +1,52 @@
+package com.jashburn.junit5.assertions;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import com.jashburn.junit5.assertions.Person.Gender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link Person#equals(Object)} and {@link Person#hashCode()}.
+ * <p>
+ * {@code equalButDistinct} has the same names as {@code person} but is a different instance, so
+ * {@code equals} cannot short-circuit on identity.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PersonBenchmark {
+
+    private final Person person =
+            new Person("Jane", "Doe", Gender.F, LocalDate.of(1990, 5, 20));
+    private final Person equalButDistinct =
+            new Person(new String("Jane"), new String("Doe"), Gender.F, LocalDate.of(1990, 5, 20));
+    private final Person different = new Person("John", "Doe", Gender.M, LocalDate.of(1990, 10, 22));
+
+    @Benchmark
+    public int hashCodeOf() {
+        return person.hashCode();
+    }
+
+    @Benchmark
+    public boolean equalsSameInstance() {
+        return person.equals(person);
+    }
+
+    @Benchmark
+    public boolean equalsEqualInstance() {
+        return person.equals(equalButDistinct);
+    }
+
+    @Benchmark
+    public boolean equalsDifferentInstance() {
+        return person.equals(different);
+    }
+}
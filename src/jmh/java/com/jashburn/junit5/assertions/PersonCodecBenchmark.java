@@ -0,0 +1,167 @@
+package com.jashburn.junit5.assertions;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import com.jashburn.junit5.assertions.Person.Gender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Encodes and decodes a batch of people with {@link PersonCodec}, against Java serialization of
+ * {@link SerializablePerson} (a {@code Serializable} copy of {@code Person}) and a CSV line per
+ * person. The encoded size of the batch in each format is printed during set up.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PersonCodecBenchmark {
+
+    private static final int SIZE = 1000;
+
+    private final List<Person> people = new ArrayList<>(SIZE);
+    private final List<SerializablePerson> serializablePeople = new ArrayList<>(SIZE);
+    private final ByteBuffer buffer = ByteBuffer.allocate(64 * SIZE);
+    private byte[] codecBytes;
+    private byte[] serializedBytes;
+    private byte[] csvBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < SIZE; i++) {
+            Person person = new Person("First" + random.nextInt(2000),
+                    "Last" + random.nextInt(5000), random.nextBoolean() ? Gender.F : Gender.M,
+                    LocalDate.ofEpochDay(random.nextInt(20_000)));
+            people.add(person);
+            serializablePeople.add(new SerializablePerson(person));
+        }
+        codecBytes = encodeDataOutput();
+        serializedBytes = serialize();
+        csvBytes = encodeCsv();
+        System.out.printf("%nBytes for %d people: codec %d, serialization %d, CSV %d%n", SIZE,
+                codecBytes.length, serializedBytes.length, csvBytes.length);
+    }
+
+    @Benchmark
+    public ByteBuffer encodeBuffer() {
+        buffer.clear();
+        PersonCodec.writeHeader(buffer);
+        for (Person person : people) {
+            PersonCodec.write(person, buffer);
+        }
+        return buffer;
+    }
+
+    @Benchmark
+    public byte[] encodeDataOutput() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 * SIZE);
+        DataOutputStream out = new DataOutputStream(bytes);
+        PersonCodec.writeHeader(out);
+        for (Person person : people) {
+            PersonCodec.write(person, out);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public List<Person> decodeBuffer() {
+        ByteBuffer in = ByteBuffer.wrap(codecBytes);
+        PersonCodec.readHeader(in);
+        List<Person> decoded = new ArrayList<>(SIZE);
+        while (in.hasRemaining()) {
+            decoded.add(PersonCodec.read(in));
+        }
+        return decoded;
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 * SIZE);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            for (SerializablePerson person : serializablePeople) {
+                out.writeObject(person);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public List<SerializablePerson> deserialize() throws IOException, ClassNotFoundException {
+        List<SerializablePerson> decoded = new ArrayList<>(SIZE);
+        try (ObjectInputStream in =
+                new ObjectInputStream(new ByteArrayInputStream(serializedBytes))) {
+            for (int i = 0; i < SIZE; i++) {
+                decoded.add((SerializablePerson) in.readObject());
+            }
+        }
+        return decoded;
+    }
+
+    @Benchmark
+    public byte[] encodeCsv() {
+        StringBuilder csv = new StringBuilder(64 * SIZE);
+        for (Person person : people) {
+            csv.append(person.getFirstName()).append(',').append(person.getLastName()).append(',')
+                    .append(person.getGender()).append(',').append(person.getDateOfBirth())
+                    .append('\n');
+        }
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public List<Person> decodeCsv() {
+        List<Person> decoded = new ArrayList<>(SIZE);
+        for (String line : new String(csvBytes, StandardCharsets.UTF_8).split("\n")) {
+            String[] fields = line.split(",");
+            decoded.add(new Person(fields[0], fields[1], Gender.valueOf(fields[2]),
+                    LocalDate.parse(fields[3])));
+        }
+        return decoded;
+    }
+
+    /**
+     * Same fields as {@link Person}, which is not {@code Serializable}.
+     */
+    public static class SerializablePerson implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String firstName;
+        private final String lastName;
+        private final Gender gender;
+        private final LocalDate dateOfBirth;
+
+        SerializablePerson(Person person) {
+            this.firstName = person.getFirstName();
+            this.lastName = person.getLastName();
+            this.gender = person.getGender();
+            this.dateOfBirth = person.getDateOfBirth();
+        }
+
+        @Override
+        public String toString() {
+            return firstName + " " + lastName + " " + gender + " " + dateOfBirth;
+        }
+    }
+}
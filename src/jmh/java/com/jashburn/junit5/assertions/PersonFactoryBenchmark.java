@@ -0,0 +1,57 @@
+package com.jashburn.junit5.assertions;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import com.jashburn.junit5.assertions.Person.Gender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link PersonFactory#create(String, String, Gender, LocalDate)} for records that repeat, as in a
+ * CSV feed: all but the first occurrence of each record hit both the name pool and the cache of
+ * canonical instances. The names are distinct {@code String} instances, as if freshly parsed.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PersonFactoryBenchmark {
+
+    @Param({"10000"})
+    private int size;
+
+    private String[] firstNames;
+    private String[] lastNames;
+    private LocalDate[] datesOfBirth;
+    private PersonFactory factory;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        firstNames = new String[size];
+        lastNames = new String[size];
+        datesOfBirth = new LocalDate[size];
+        for (int i = 0; i < size; i++) {
+            firstNames[i] = new String("First" + i % 200);
+            lastNames[i] = new String("Last" + i % 500);
+            datesOfBirth[i] = LocalDate.ofEpochDay(i % 1_000);
+        }
+        factory = new PersonFactory();
+    }
+
+    @Benchmark
+    public Person create() {
+        int i = next;
+        next = i + 1 == size ? 0 : i + 1;
+        return factory.create(firstNames[i], lastNames[i], Gender.F, datesOfBirth[i]);
+    }
+}
@@ -0,0 +1,191 @@
+package com.jashburn.junit5.assertions;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import com.jashburn.junit5.assertions.Person.Gender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * HashMap {@code put} and {@code get} throughput with {@link Person} keys, against
+ * {@link LegacyPerson}, a copy of {@code Person} as it was before its hash code was cached.
+ * <p>
+ * Lookups use equal but distinct key instances, so {@code equals} cannot short-circuit on
+ * identity. The names share a common prefix, which makes a full string comparison more expensive.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PersonHashMapBenchmark {
+
+    private static final LocalDate DATE_OF_BIRTH = LocalDate.of(1990, 5, 20);
+
+    /**
+     * Each benchmark only sets up the keys it uses, so that building the other map does not change
+     * the heap layout it runs against.
+     */
+    @State(Scope.Thread)
+    public static class PersonKeys {
+
+        @Param({"100000"})
+        private int size;
+
+        private Person[] keys;
+        private Person[] lookups;
+        private Map<Person, Integer> map;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            keys = new Person[size];
+            lookups = new Person[size];
+            for (int i = 0; i < size; i++) {
+                keys[i] = new Person(firstName(i), lastName(i), Gender.F, DATE_OF_BIRTH);
+                lookups[i] = new Person(firstName(i), lastName(i), Gender.F, DATE_OF_BIRTH);
+            }
+            map = putAll(keys);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class LegacyKeys {
+
+        @Param({"100000"})
+        private int size;
+
+        private LegacyPerson[] keys;
+        private LegacyPerson[] lookups;
+        private Map<LegacyPerson, Integer> map;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            keys = new LegacyPerson[size];
+            lookups = new LegacyPerson[size];
+            for (int i = 0; i < size; i++) {
+                keys[i] = new LegacyPerson(firstName(i), lastName(i), Gender.F, DATE_OF_BIRTH);
+                lookups[i] = new LegacyPerson(firstName(i), lastName(i), Gender.F, DATE_OF_BIRTH);
+            }
+            map = putAll(keys);
+        }
+    }
+
+    @Benchmark
+    public Map<Person, Integer> put(PersonKeys state) {
+        return putAll(state.keys);
+    }
+
+    @Benchmark
+    public Map<LegacyPerson, Integer> putLegacy(LegacyKeys state) {
+        return putAll(state.keys);
+    }
+
+    @Benchmark
+    public int get(PersonKeys state) {
+        return getAll(state.map, state.lookups);
+    }
+
+    @Benchmark
+    public int getLegacy(LegacyKeys state) {
+        return getAll(state.map, state.lookups);
+    }
+
+    private static String firstName(int i) {
+        return "Firstname-" + i;
+    }
+
+    private static String lastName(int i) {
+        return "Lastname-" + (i % 1000);
+    }
+
+    private static <K> Map<K, Integer> putAll(K[] keys) {
+        Map<K, Integer> map = new HashMap<>();
+        for (int i = 0; i < keys.length; i++) {
+            map.put(keys[i], i);
+        }
+        return map;
+    }
+
+    private static <K> int getAll(Map<K, Integer> map, K[] keys) {
+        int sum = 0;
+        for (K key : keys) {
+            sum += map.get(key);
+        }
+        return sum;
+    }
+
+    /**
+     * {@code Person} before it was made immutable: the hash code is recomputed on every call, and
+     * {@code equals} compares the classes and null-checks each field.
+     */
+    public static class LegacyPerson {
+
+        private String firstName;
+        private String lastName;
+        private Gender gender;
+        private LocalDate dateOfBirth;
+
+        public LegacyPerson(String firstName, String lastName, Gender gender,
+                LocalDate dateOfBirth) {
+            this.firstName = firstName;
+            this.lastName = lastName;
+            this.gender = gender;
+            this.dateOfBirth = dateOfBirth;
+        }
+
+        public Gender getGender() {
+            return gender;
+        }
+
+        public LocalDate getDateOfBirth() {
+            return dateOfBirth;
+        }
+
+        @Override
+        public int hashCode() {
+            final int prime = 31;
+            int result = 1;
+            result = prime * result + ((firstName == null) ? 0 : firstName.hashCode());
+            result = prime * result + ((lastName == null) ? 0 : lastName.hashCode());
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null) {
+                return false;
+            }
+            if (getClass() != obj.getClass()) {
+                return false;
+            }
+            LegacyPerson other = (LegacyPerson) obj;
+            if (firstName == null) {
+                if (other.firstName != null) {
+                    return false;
+                }
+            } else if (!firstName.equals(other.firstName)) {
+                return false;
+            }
+            if (lastName == null) {
+                if (other.lastName != null) {
+                    return false;
+                }
+            } else if (!lastName.equals(other.lastName)) {
+                return false;
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.jashburn.junit5.assertions;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import com.jashburn.junit5.assertions.Person.Gender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Finds the women with a given last name born in the 1990s, with a {@link PersonIndex} query
+ * against a filtered stream over a {@code List<Person>}.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PersonIndexBenchmark {
+
+    private static final LocalDate FROM = LocalDate.of(1990, 1, 1);
+    private static final LocalDate TO = LocalDate.of(1999, 12, 31);
+
+    @Param({"100000"})
+    private int size;
+
+    private final List<Person> people = new ArrayList<>();
+    private final PersonIndex index = new PersonIndex();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < size; i++) {
+            Person person = new Person("First" + i, "Last" + random.nextInt(100),
+                    random.nextBoolean() ? Gender.F : Gender.M,
+                    LocalDate.ofEpochDay(random.nextInt(20_000)));
+            people.add(person);
+            index.add(person);
+        }
+    }
+
+    @Benchmark
+    public List<Person> indexQuery() {
+        return index.query().lastName("Last42").gender(Gender.F).bornBetween(FROM, TO).find();
+    }
+
+    @Benchmark
+    public List<Person> linearScan() {
+        return people.stream()
+                .filter(p -> p.getLastName().equals("Last42") && p.getGender() == Gender.F
+                        && !p.getDateOfBirth().isBefore(FROM) && !p.getDateOfBirth().isAfter(TO))
+                .collect(Collectors.toList());
+    }
+}
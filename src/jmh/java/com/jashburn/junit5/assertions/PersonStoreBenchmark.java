@@ -0,0 +1,75 @@
+package com.jashburn.junit5.assertions;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import com.jashburn.junit5.assertions.Person.Gender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Counts women born after a date with a {@link PersonStore} column scan, against a loop and a
+ * stream over a {@code List<Person>}.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PersonStoreBenchmark {
+
+    private static final LocalDate AFTER = LocalDate.of(1990, 1, 1);
+
+    @Param({"1000000"})
+    private int size;
+
+    private List<Person> people;
+    private PersonStore store;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        people = new ArrayList<>(size);
+        store = new PersonStore(size);
+        for (int i = 0; i < size; i++) {
+            Person person = new Person("First" + random.nextInt(2000),
+                    "Last" + random.nextInt(5000), random.nextBoolean() ? Gender.F : Gender.M,
+                    LocalDate.ofEpochDay(random.nextInt(20_000)));
+            people.add(person);
+            store.add(person);
+        }
+    }
+
+    @Benchmark
+    public int storeScan() {
+        return store.countBornAfter(Gender.F, AFTER);
+    }
+
+    @Benchmark
+    public int listLoop() {
+        int count = 0;
+        for (Person person : people) {
+            if (person.getGender() == Gender.F && person.getDateOfBirth().isAfter(AFTER)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long listStream() {
+        return people.stream()
+                .filter(p -> p.getGender() == Gender.F && p.getDateOfBirth().isAfter(AFTER))
+                .count();
+    }
+}
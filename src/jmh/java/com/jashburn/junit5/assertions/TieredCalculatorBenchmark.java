@@ -0,0 +1,69 @@
+package com.jashburn.junit5.assertions;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Sums and multiplies a batch of values with {@link TieredCalculator}, against doing everything in
+ * {@code BigDecimal}. One value in a thousand is large enough to overflow a {@code long} when
+ * multiplied, so the tiered calculator is promoted occasionally.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TieredCalculatorBenchmark {
+
+    private static final int SIZE = 1000;
+
+    private final TieredCalculator calculator = new TieredCalculator();
+    private long[] values;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        values = new long[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            values[i] = i % 1000 == 999 ? Long.MAX_VALUE / 2 : random.nextInt(1_000_000);
+        }
+    }
+
+    @Benchmark
+    public Number tiered() {
+        Number total = 0L;
+        for (long value : values) {
+            total = calculator.add(total, calculator.multiply(value, 3L));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Number tieredAccumulator() {
+        TieredCalculator.Accumulator total = calculator.accumulator(0);
+        for (long value : values) {
+            total.addProduct(value, 3L);
+        }
+        return total.toNumber();
+    }
+
+    @Benchmark
+    public BigDecimal allBigDecimal() {
+        BigDecimal three = BigDecimal.valueOf(3);
+        BigDecimal total = BigDecimal.ZERO;
+        for (long value : values) {
+            total = total.add(BigDecimal.valueOf(value).multiply(three));
+        }
+        return total;
+    }
+}
@@ -0,0 +1,76 @@
+package com.jashburn.junit5.dynamictests;
+
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks draining the iterator returned by {@link EvenNumbersGenerator#generator()}, including
+ * the boxing of every element, against the primitive {@link Progression} iterator and stream.
+ * <p>
+ * {@code generator()} is fixed at 5 elements; the {@code progression*} benchmarks are run over
+ * {@code limit / 2} elements, with {@code boxedProgression} iterating the same progression through
+ * {@code Iterator<Integer>} to isolate the cost of boxing.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EvenNumbersGeneratorBenchmark {
+
+    @Param({"10", "100000"})
+    private int limit;
+
+    private Progression evens;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        evens = EvenNumbersGenerator.evens(0, limit);
+    }
+
+    @Benchmark
+    public int generator() {
+        int sum = 0;
+        Iterator<Integer> iterator = EvenNumbersGenerator.generator();
+        while (iterator.hasNext()) {
+            sum += iterator.next();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int boxedProgression() {
+        int sum = 0;
+        Iterator<Integer> iterator = evens.intIterator();
+        while (iterator.hasNext()) {
+            sum += iterator.next();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int progressionIterator() {
+        int sum = 0;
+        PrimitiveIterator.OfInt iterator = evens.intIterator();
+        while (iterator.hasNext()) {
+            sum += iterator.nextInt();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int progressionStream() {
+        return evens.intStream().sum();
+    }
+}
@@ -0,0 +1,56 @@
+package com.jashburn.junit5.dynamictests;
+
+import java.util.Spliterators;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.StreamSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares parallel streams over a {@link Progression}: {@code splittable} uses its
+ * {@code SIZED} spliterator, while {@code iteratorBased} wraps the same elements' iterator, as a
+ * stream built from {@code EvenNumbersGenerator.generator()} would be. The work per element is
+ * deliberately small so that the benchmark measures how evenly the elements are spread.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProgressionBenchmark {
+
+    @Param({"1000000", "100000000"})
+    private long limit;
+
+    private Progression evens;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        evens = EvenNumbersGenerator.evens(0, limit);
+    }
+
+    @Benchmark
+    public long sequential() {
+        return evens.longStream(false).map(n -> n * n % 7).sum();
+    }
+
+    @Benchmark
+    public long splittable() {
+        return evens.longStream(true).map(n -> n * n % 7).sum();
+    }
+
+    @Benchmark
+    public long iteratorBased() {
+        return StreamSupport
+                .longStream(Spliterators.spliteratorUnknownSize(evens.longIterator(), 0), true)
+                .map(n -> n * n % 7).sum();
+    }
+}
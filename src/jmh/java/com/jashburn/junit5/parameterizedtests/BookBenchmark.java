@@ -0,0 +1,29 @@
+package com.jashburn.junit5.parameterizedtests;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link Book#fromTitle(String)}. Returning the {@code Book} lets JMH consume it, so the
+ * allocation is not eliminated and shows up in the GC profiler's allocation rate.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BookBenchmark {
+
+    private String title = "42 Cats";
+
+    @Benchmark
+    public Book fromTitle() {
+        return Book.fromTitle(title);
+    }
+}
@@ -0,0 +1,83 @@
+package com.jashburn.junit5.parameterizedtests;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Case-insensitive exact and prefix title search with a {@link BookCatalogue}, against a
+ * {@code HashMap<String, Book>} keyed by lower-cased title (exact) or scanned (prefix).
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BookCatalogueBenchmark {
+
+    @Param({"100000"})
+    private int size;
+
+    private final BookCatalogue catalogue = new BookCatalogue();
+    private final Map<String, Book> map = new HashMap<>();
+    private String title;
+    private int added;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < size; i++) {
+            String candidate = "Title " + random.nextInt(1_000_000) + " of " + i;
+            catalogue.add(candidate);
+            map.put(candidate.toLowerCase(), Book.fromTitle(candidate));
+            title = candidate;
+        }
+        catalogue.size(); // build the index
+    }
+
+    @Benchmark
+    public Optional<Book> catalogueFind() {
+        return catalogue.find(title.toUpperCase());
+    }
+
+    @Benchmark
+    public Book mapGet() {
+        return map.get(title.toUpperCase().toLowerCase());
+    }
+
+    /** One addition before each search, so that every search merges a batch into the index. */
+    @Benchmark
+    public Optional<Book> catalogueAddThenFind() {
+        catalogue.add("Added title " + added++);
+        return catalogue.find(title);
+    }
+
+    @Benchmark
+    public List<Book> cataloguePrefix() {
+        return catalogue.startingWith("title 4242", 20);
+    }
+
+    @Benchmark
+    public List<Book> mapPrefixScan() {
+        return map.entrySet().stream()
+                .filter(e -> e.getKey().startsWith("title 4242"))
+                .map(Map.Entry::getValue)
+                .sorted((a, b) -> a.getTitle().compareToIgnoreCase(b.getTitle()))
+                .limit(20)
+                .collect(Collectors.toList());
+    }
+}
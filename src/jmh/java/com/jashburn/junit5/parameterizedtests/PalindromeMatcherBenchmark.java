@@ -0,0 +1,45 @@
+package com.jashburn.junit5.parameterizedtests;
+
+import static com.jashburn.junit5.parameterizedtests.PalindromeMatcher.Option.IGNORE_CASE;
+import static com.jashburn.junit5.parameterizedtests.PalindromeMatcher.Option.IGNORE_PUNCTUATION_AND_WHITESPACE;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link PalindromeMatcher} with the usual workaround of stripping punctuation and
+ * lowercasing before calling {@link StringUtils#isPalindrome(String)}, which allocates two
+ * intermediate strings per candidate.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PalindromeMatcherBenchmark {
+
+    private static final Pattern NOT_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]");
+
+    private final PalindromeMatcher matcher =
+            PalindromeMatcher.of(IGNORE_CASE, IGNORE_PUNCTUATION_AND_WHITESPACE);
+
+    private String candidate = "A man, a plan, a canal: Panama!";
+
+    @Benchmark
+    public boolean normaliseThenCheck() {
+        String normalised = NOT_ALPHANUMERIC.matcher(candidate).replaceAll("");
+        return StringUtils.isPalindrome(normalised.toLowerCase(Locale.ROOT));
+    }
+
+    @Benchmark
+    public boolean matcher() {
+        return matcher.matches(candidate);
+    }
+}
@@ -0,0 +1,57 @@
+package com.jashburn.junit5.parameterizedtests;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link StringUtils#longestPalindrome(CharSequence)} and a full scan of
+ * {@link PalindromeSpans} over random text from a small alphabet, which has many short palindromes.
+ * Time per operation should grow linearly with {@code length}.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PalindromeSpansBenchmark {
+
+    @Param({"1048576", "4194304"})
+    private int length;
+
+    private String text;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(4));
+        }
+        text = new String(chars);
+    }
+
+    @Benchmark
+    public CharSequence longestPalindrome() {
+        return StringUtils.longestPalindrome(text);
+    }
+
+    @Benchmark
+    public long scanSpans() {
+        long total = 0;
+        PalindromeSpans spans = StringUtils.palindromeSpans(text, 8);
+        while (spans.next()) {
+            total += spans.length();
+        }
+        return total;
+    }
+}
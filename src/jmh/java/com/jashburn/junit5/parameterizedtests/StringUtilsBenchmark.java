@@ -0,0 +1,116 @@
+package com.jashburn.junit5.parameterizedtests;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link StringUtils#isPalindrome(String)} on palindromes of different lengths, which is
+ * the worst case since every character pair has to be compared.
+ * <p>
+ * The {@code batch*} benchmarks screen {@link #BATCH_SIZE} candidates per invocation, comparing a
+ * loop over the original method with the bulk, stream and Latin-1 variants.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StringUtilsBenchmark {
+
+    @Param({"7", "64", "4096"})
+    private int length;
+
+    static final int BATCH_SIZE = 1024;
+
+    private String palindrome;
+    private String nonPalindrome;
+    private byte[] palindromeLatin1;
+    private String[] batch;
+    private byte[][] batchLatin1;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        palindrome = palindrome(length);
+        nonPalindrome = "x" + palindrome.substring(1);
+        palindromeLatin1 = palindrome.getBytes(ISO_8859_1);
+        batch = new String[BATCH_SIZE];
+        batchLatin1 = new byte[BATCH_SIZE][];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            // every fourth candidate fails on its middle pair, so most of it is still scanned
+            char[] chars = palindrome.toCharArray();
+            if (i % 4 == 0 && length > 1) {
+                chars[length / 2 - 1] = '#';
+            }
+            batch[i] = new String(chars);
+            batchLatin1[i] = batch[i].getBytes(ISO_8859_1);
+        }
+    }
+
+    static String palindrome(int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < (length + 1) / 2; i++) {
+            char c = (char) ('a' + i % 26);
+            chars[i] = c;
+            chars[length - (i + 1)] = c;
+        }
+        return new String(chars);
+    }
+
+    @Benchmark
+    public boolean palindrome() {
+        return StringUtils.isPalindrome(palindrome);
+    }
+
+    @Benchmark
+    public boolean nonPalindrome() {
+        return StringUtils.isPalindrome(nonPalindrome);
+    }
+
+    @Benchmark
+    public boolean palindromeLatin1() {
+        return StringUtils.isPalindromeLatin1(palindromeLatin1);
+    }
+
+    @Benchmark
+    public int batchLoop() {
+        int count = 0;
+        for (String candidate : batch) {
+            if (StringUtils.isPalindrome(candidate)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public boolean[] batchBulk() {
+        return StringUtils.arePalindromes(batch);
+    }
+
+    @Benchmark
+    public long batchParallelStream() {
+        return StringUtils.palindromes(Arrays.stream(batch).parallel()).count();
+    }
+
+    @Benchmark
+    public int batchLatin1() {
+        int count = 0;
+        for (byte[] candidate : batchLatin1) {
+            if (StringUtils.isPalindromeLatin1(candidate)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,82 @@
+package com.jashburn.junit5.testinterfaces;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Records ranks and counts a rank range with {@link RankStatistics}, against a
+ * {@code ConcurrentHashMap<Rank, Long>} updated with {@code merge} and filtered with
+ * {@code compareTo}. The counters are shared by all benchmark threads; run with {@code -t} to
+ * measure contention.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(1)
+public class RankStatisticsBenchmark {
+
+    private static final Rank[] RANKS = Rank.values();
+
+    private final RankStatistics statistics = new RankStatistics();
+    private final Map<Rank, Long> map = new ConcurrentHashMap<>();
+    private final int range = RankStatistics.between(Rank.CORPORAL, Rank.STAFF_SERGEANT);
+
+    @Setup
+    public void setUp() {
+        for (Rank rank : RANKS) {
+            statistics.record(rank, rank.ordinal() + 1);
+            map.put(rank, rank.ordinal() + 1L);
+        }
+    }
+
+    /** Cycles through the ranks independently in each thread. */
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private int next;
+
+        Rank next() {
+            next = next == RANKS.length - 1 ? 0 : next + 1;
+            return RANKS[next];
+        }
+    }
+
+    @Benchmark
+    public void recordStatistics(Cursor cursor) {
+        statistics.record(cursor.next());
+    }
+
+    @Benchmark
+    public void recordMap(Cursor cursor) {
+        map.merge(cursor.next(), 1L, Long::sum);
+    }
+
+    @Benchmark
+    public long rangeStatistics() {
+        return statistics.count(range);
+    }
+
+    @Benchmark
+    public long rangeMap() {
+        long sum = 0;
+        for (Map.Entry<Rank, Long> entry : map.entrySet()) {
+            if (entry.getKey().compareTo(Rank.CORPORAL) >= 0
+                    && entry.getKey().compareTo(Rank.STAFF_SERGEANT) <= 0) {
+                sum += entry.getValue();
+            }
+        }
+        return sum;
+    }
+}
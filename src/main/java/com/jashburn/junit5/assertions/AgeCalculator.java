@@ -0,0 +1,211 @@
+package com.jashburn.junit5.assertions;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Computes ages and upcoming birthdays against a single reference date ("today"), working on epoch
+ * days so that batches of dates are processed without a {@code LocalDate} or {@code Period} per
+ * record. The epoch days of the reference date's anniversaries over the last 200 years are
+ * precomputed, so most ages take a multiplication and two table lookups; other dates are converted
+ * to year, month and day with the civil calendar algorithm of Howard Hinnant.
+ * <p>
+ * For dates of birth up to the reference date, ages agree with
+ * {@code Period.between(dateOfBirth, today).getYears()}. In particular, someone born on February 29
+ * gets a year older on March 1 in a non-leap year, which is also when their birthday falls for the
+ * birthday queries.
+ * <p>
+ * The batch methods come in sequential and parallel variants; the parallel ones split the work
+ * across the common fork-join pool. {@link #NO_DATE} marks a missing date of birth, as in
+ * {@link PersonStore}: it has an age of -1 and never has an upcoming birthday. Instances are
+ * immutable.
+ */
+public final class AgeCalculator {
+
+    /** Marks a missing date of birth in an array of epoch days. */
+    public static final int NO_DATE = Integer.MIN_VALUE;
+
+    private static final int DAYS_0000_TO_1970 = 719_468; // from 0000-03-01, as the algorithm uses
+    private static final int DAYS_PER_ERA = 146_097;
+    private static final int TABLE_YEARS = 200;
+
+    private final LocalDate reference;
+    private final long today;
+    private final int year;
+    private final int monthDay;
+    /** Element {@code k} is the epoch day of the reference date {@code k} years earlier. */
+    private final long[] anniversaries = new long[TABLE_YEARS + 2];
+
+    public AgeCalculator(LocalDate today) {
+        this.reference = today;
+        this.today = today.toEpochDay();
+        this.year = today.getYear();
+        this.monthDay = monthDay(today.getMonthValue(), today.getDayOfMonth());
+        for (int k = 0; k < anniversaries.length; k++) {
+            anniversaries[k] = today.minusYears(k).toEpochDay();
+        }
+    }
+
+    public static AgeCalculator today() {
+        return new AgeCalculator(LocalDate.now());
+    }
+
+    /**
+     * @return the age in completed years, which is negative for a date after the reference date
+     */
+    public int age(LocalDate dateOfBirth) {
+        return age(Math.toIntExact(dateOfBirth.toEpochDay()));
+    }
+
+    /**
+     * @return the age in completed years of someone born on {@code epochDay}; -1 for
+     *         {@link #NO_DATE}
+     */
+    public int age(int epochDay) {
+        if (epochDay == NO_DATE) {
+            return -1;
+        }
+        long elapsed = today - epochDay;
+        if (elapsed >= 0 && epochDay > anniversaries[TABLE_YEARS]) {
+            // someone is k years old if born on or before the k-th anniversary back in time; the
+            // average year length gets within one year of k, and the table settles it
+            int years = (int) (elapsed * 4 / 1461);
+            years += anniversaries[years + 1] >= epochDay ? 1 : 0;
+            years -= anniversaries[years] < epochDay ? 1 : 0;
+            return years;
+        }
+        long civil = civil(epochDay);
+        int birthYear = (int) (civil >> 16);
+        int birthMonthDay = (int) civil & 0xFFFF;
+        return year - birthYear - (birthMonthDay > monthDay ? 1 : 0);
+    }
+
+    /**
+     * @return the age of each of the epoch days
+     */
+    public int[] ages(int[] epochDays) {
+        int[] ages = new int[epochDays.length];
+        for (int i = 0; i < epochDays.length; i++) {
+            ages[i] = age(epochDays[i]);
+        }
+        return ages;
+    }
+
+    /**
+     * Same as {@link #ages(int[])}, computed in parallel.
+     */
+    public int[] agesParallel(int[] epochDays) {
+        int[] ages = new int[epochDays.length];
+        Arrays.parallelSetAll(ages, i -> age(epochDays[i]));
+        return ages;
+    }
+
+    /**
+     * @return the number of days from the reference date to the next birthday of someone born on
+     *         {@code epochDay}, 0 if it is on the reference date; -1 for {@link #NO_DATE}
+     */
+    public int daysUntilBirthday(int epochDay) {
+        if (epochDay == NO_DATE) {
+            return -1;
+        }
+        int birthMonthDay = (int) civil(epochDay) & 0xFFFF;
+        int birthdayYear = year;
+        int birthday = birthdayIn(birthdayYear, birthMonthDay);
+        if (birthday < monthDay) {
+            birthdayYear++;
+            birthday = birthdayIn(birthdayYear, birthMonthDay);
+        }
+        return (int) (epochDay(birthdayYear, birthday >> 5, birthday & 0x1F) - today);
+    }
+
+    /**
+     * @return the month and day of the birthday in {@code year}, encoded as {@code birthMonthDay}
+     *         is: Feb 29 moves to Mar 1 in a non-leap year
+     */
+    private static int birthdayIn(int year, int birthMonthDay) {
+        if (birthMonthDay == monthDay(2, 29) && !isLeapYear(year)) {
+            return monthDay(3, 1);
+        }
+        return birthMonthDay;
+    }
+
+    /**
+     * @return whether someone born on {@code epochDay} has a birthday within the next {@code days}
+     *         days, the reference date included
+     */
+    public boolean hasBirthdayWithin(int epochDay, int days) {
+        int until = daysUntilBirthday(epochDay);
+        return until >= 0 && until < days;
+    }
+
+    /**
+     * @return the indexes, in increasing order, of the epoch days with a birthday within the next
+     *         {@code days} days
+     */
+    public int[] birthdaysWithin(int[] epochDays, int days) {
+        AgeCalculator before = new AgeCalculator(reference.minusDays(1));
+        AgeCalculator last = new AgeCalculator(reference.plusDays(days - 1L));
+        return IntStream.range(0, epochDays.length)
+                .filter(i -> hasBirthdayBetween(epochDays[i], before, last))
+                .toArray();
+    }
+
+    /**
+     * Same as {@link #birthdaysWithin(int[], int)}, computed in parallel.
+     */
+    public int[] birthdaysWithinParallel(int[] epochDays, int days) {
+        AgeCalculator before = new AgeCalculator(reference.minusDays(1));
+        AgeCalculator last = new AgeCalculator(reference.plusDays(days - 1L));
+        return IntStream.range(0, epochDays.length)
+                .parallel()
+                .filter(i -> hasBirthdayBetween(epochDays[i], before, last))
+                .toArray();
+    }
+
+    /**
+     * A birthday falls in a window exactly when the age goes up in it, which saves converting each
+     * date of birth to a calendar date in the batch queries.
+     */
+    private static boolean hasBirthdayBetween(int epochDay, AgeCalculator before,
+            AgeCalculator last) {
+        return epochDay != NO_DATE && last.age(epochDay) > before.age(epochDay);
+    }
+
+    /**
+     * @return the year in the upper bits and {@link #monthDay(int, int)} in the lower 16 bits
+     */
+    private static long civil(int epochDay) {
+        long z = epochDay + DAYS_0000_TO_1970;
+        long era = Math.floorDiv(z, DAYS_PER_ERA);
+        long dayOfEra = z - era * DAYS_PER_ERA;
+        long yearOfEra =
+                (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long shiftedMonth = (5 * dayOfYear + 2) / 153; // March is 0
+        long day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        long month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return (year << 16) | monthDay((int) month, (int) day);
+    }
+
+    private static long epochDay(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * DAYS_PER_ERA + dayOfEra - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * @return a key that orders month and day within a year
+     */
+    private static int monthDay(int month, int day) {
+        return month << 5 | day;
+    }
+
+    private static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+}
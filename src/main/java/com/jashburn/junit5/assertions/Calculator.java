@@ -9,8 +9,26 @@
 
 package com.jashburn.junit5.assertions;
 
+import java.nio.IntBuffer;
+
 public class Calculator {
 
+    /**
+     * What to do when the result of an operation does not fit in an {@code int}.
+     */
+    public enum Overflow {
+        /** Keep the low 32 bits, as the {@code int} operators do. */
+        WRAP,
+        /** Clamp to {@code Integer.MIN_VALUE} or {@code Integer.MAX_VALUE}. */
+        SATURATE,
+        /** Throw an {@code ArithmeticException}, as the {@code Math.*Exact} methods do. */
+        THROW
+    }
+
+    private enum Operation {
+        ADD, SUBTRACT, MULTIPLY, DIVIDE
+    }
+
     public int add(int a, int b) {
         return a + b;
     }
@@ -27,4 +45,277 @@ public class Calculator {
         return a / b;
     }
 
+    public int add(int a, int b, Overflow overflow) {
+        return apply(Operation.ADD, a, b, overflow);
+    }
+
+    public int subtract(int a, int b, Overflow overflow) {
+        return apply(Operation.SUBTRACT, a, b, overflow);
+    }
+
+    public int multiply(int a, int b, Overflow overflow) {
+        return apply(Operation.MULTIPLY, a, b, overflow);
+    }
+
+    /**
+     * Division only overflows for {@code Integer.MIN_VALUE / -1}. Division by zero always throws
+     * an {@code ArithmeticException}, whatever the overflow policy.
+     */
+    public int divide(int a, int b, Overflow overflow) {
+        return apply(Operation.DIVIDE, a, b, overflow);
+    }
+
+    /**
+     * Element-wise {@code out[i] = a[i] + b[i]}, wrapping on overflow.
+     * <p>
+     * The bulk operations run simple counted loops over the arrays, which the JIT compiles to SIMD
+     * instructions where the platform supports them (division excepted).
+     *
+     * @throws IllegalArgumentException if the arrays are not all the same length
+     */
+    public void add(int[] a, int[] b, int[] out) {
+        add(a, b, out, Overflow.WRAP);
+    }
+
+    public void subtract(int[] a, int[] b, int[] out) {
+        subtract(a, b, out, Overflow.WRAP);
+    }
+
+    public void multiply(int[] a, int[] b, int[] out) {
+        multiply(a, b, out, Overflow.WRAP);
+    }
+
+    public void divide(int[] a, int[] b, int[] out) {
+        divide(a, b, out, Overflow.WRAP);
+    }
+
+    /**
+     * Element-wise {@code out[i] = a[i] + b[i]}. With {@link Overflow#THROW}, the elements before
+     * the one that overflows have already been written to {@code out} when the exception is
+     * thrown.
+     *
+     * @throws IllegalArgumentException if the arrays are not all the same length
+     */
+    public void add(int[] a, int[] b, int[] out, Overflow overflow) {
+        apply(Operation.ADD, a, b, out, overflow);
+    }
+
+    public void subtract(int[] a, int[] b, int[] out, Overflow overflow) {
+        apply(Operation.SUBTRACT, a, b, out, overflow);
+    }
+
+    public void multiply(int[] a, int[] b, int[] out, Overflow overflow) {
+        apply(Operation.MULTIPLY, a, b, out, overflow);
+    }
+
+    public void divide(int[] a, int[] b, int[] out, Overflow overflow) {
+        apply(Operation.DIVIDE, a, b, out, overflow);
+    }
+
+    /**
+     * Element-wise addition of the elements between each buffer's position and limit. Positions
+     * are not changed. Heap buffers whose elements start at the same array index use the same
+     * loops as the array operations; other buffers fall back to one element at a time.
+     *
+     * @throws IllegalArgumentException if the buffers do not have the same number of elements
+     *         remaining
+     */
+    public void add(IntBuffer a, IntBuffer b, IntBuffer out, Overflow overflow) {
+        apply(Operation.ADD, a, b, out, overflow);
+    }
+
+    public void subtract(IntBuffer a, IntBuffer b, IntBuffer out, Overflow overflow) {
+        apply(Operation.SUBTRACT, a, b, out, overflow);
+    }
+
+    public void multiply(IntBuffer a, IntBuffer b, IntBuffer out, Overflow overflow) {
+        apply(Operation.MULTIPLY, a, b, out, overflow);
+    }
+
+    public void divide(IntBuffer a, IntBuffer b, IntBuffer out, Overflow overflow) {
+        apply(Operation.DIVIDE, a, b, out, overflow);
+    }
+
+    private static void apply(Operation operation, int[] a, int[] b, int[] out,
+            Overflow overflow) {
+        checkLengths(a.length, b.length, out.length);
+        apply(operation, a, b, out, 0, a.length, overflow);
+    }
+
+    private static void apply(Operation operation, IntBuffer a, IntBuffer b, IntBuffer out,
+            Overflow overflow) {
+        int length = a.remaining();
+        checkLengths(length, b.remaining(), out.remaining());
+        if (a.hasArray() && b.hasArray() && out.hasArray() && !out.isReadOnly()) {
+            int from = a.arrayOffset() + a.position();
+            if (b.arrayOffset() + b.position() == from
+                    && out.arrayOffset() + out.position() == from) {
+                apply(operation, a.array(), b.array(), out.array(), from, from + length, overflow);
+                return;
+            }
+        }
+        for (int i = 0; i < length; i++) {
+            out.put(out.position() + i, apply(operation, a.get(a.position() + i),
+                    b.get(b.position() + i), overflow));
+        }
+    }
+
+    private static void checkLengths(int a, int b, int out) {
+        if (a != b || a != out) {
+            throw new IllegalArgumentException(
+                    "Operands and result differ in length: " + a + ", " + b + ", " + out);
+        }
+    }
+
+    private static int apply(Operation operation, int a, int b, Overflow overflow) {
+        // the exact result of any of the operations on two ints fits in a long
+        long exact;
+        switch (operation) {
+            case ADD:
+                exact = (long) a + b;
+                break;
+            case SUBTRACT:
+                exact = (long) a - b;
+                break;
+            case MULTIPLY:
+                exact = (long) a * b;
+                break;
+            default:
+                exact = (long) a / b;
+                break;
+        }
+        if ((int) exact == exact) {
+            return (int) exact;
+        }
+        switch (overflow) {
+            case WRAP:
+                return (int) exact;
+            case SATURATE:
+                return exact < 0 ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+            default:
+                throw new ArithmeticException("integer overflow");
+        }
+    }
+
+    /**
+     * Dispatches once per call to a loop that is monomorphic, small and free of branches on the
+     * data, which is what the JIT needs in order to vectorize it. The loops index all three arrays
+     * with the same index: C2 does not vectorize loops whose arrays are read at different offsets.
+     */
+    private static void apply(Operation operation, int[] a, int[] b, int[] out, int from, int to,
+            Overflow overflow) {
+        switch (operation) {
+            case ADD:
+                if (overflow == Overflow.WRAP) {
+                    addWrap(a, b, out, from, to);
+                } else if (overflow == Overflow.SATURATE) {
+                    addSaturate(a, b, out, from, to);
+                } else {
+                    for (int i = from; i < to; i++) {
+                        out[i] = Math.addExact(a[i], b[i]);
+                    }
+                }
+                return;
+            case SUBTRACT:
+                if (overflow == Overflow.WRAP) {
+                    subtractWrap(a, b, out, from, to);
+                } else if (overflow == Overflow.SATURATE) {
+                    subtractSaturate(a, b, out, from, to);
+                } else {
+                    for (int i = from; i < to; i++) {
+                        out[i] = Math.subtractExact(a[i], b[i]);
+                    }
+                }
+                return;
+            case MULTIPLY:
+                if (overflow == Overflow.WRAP) {
+                    multiplyWrap(a, b, out, from, to);
+                } else if (overflow == Overflow.SATURATE) {
+                    multiplySaturate(a, b, out, from, to);
+                } else {
+                    for (int i = from; i < to; i++) {
+                        out[i] = Math.multiplyExact(a[i], b[i]);
+                    }
+                }
+                return;
+            default:
+                // there is no SIMD integer division, so one loop with the rare case checked will do
+                for (int i = from; i < to; i++) {
+                    int x = a[i];
+                    int y = b[i];
+                    if (x == Integer.MIN_VALUE && y == -1 && overflow != Overflow.WRAP) {
+                        if (overflow == Overflow.THROW) {
+                            throw new ArithmeticException("integer overflow");
+                        }
+                        out[i] = Integer.MAX_VALUE;
+                    } else {
+                        out[i] = x / y;
+                    }
+                }
+        }
+    }
+
+    private static void addWrap(int[] a, int[] b, int[] out, int from, int to) {
+        for (int i = from; i < to; i++) {
+            out[i] = a[i] + b[i];
+        }
+    }
+
+    private static void addSaturate(int[] a, int[] b, int[] out, int from, int to) {
+        for (int i = from; i < to; i++) {
+            int x = a[i];
+            int y = b[i];
+            int r = x + y;
+            // all ones iff both operands have the opposite sign to the result
+            int overflowed = ((x ^ r) & (y ^ r)) >> 31;
+            out[i] = (r & ~overflowed) | (saturated(x) & overflowed);
+        }
+    }
+
+    private static void subtractWrap(int[] a, int[] b, int[] out, int from, int to) {
+        for (int i = from; i < to; i++) {
+            out[i] = a[i] - b[i];
+        }
+    }
+
+    private static void subtractSaturate(int[] a, int[] b, int[] out, int from, int to) {
+        for (int i = from; i < to; i++) {
+            int x = a[i];
+            int y = b[i];
+            int r = x - y;
+            // all ones iff the operands differ in sign and the result does not have x's sign
+            int overflowed = ((x ^ y) & (x ^ r)) >> 31;
+            out[i] = (r & ~overflowed) | (saturated(x) & overflowed);
+        }
+    }
+
+    private static void multiplyWrap(int[] a, int[] b, int[] out, int from, int to) {
+        for (int i = from; i < to; i++) {
+            out[i] = a[i] * b[i];
+        }
+    }
+
+    private static void multiplySaturate(int[] a, int[] b, int[] out, int from, int to) {
+        for (int i = from; i < to; i++) {
+            long r = (long) a[i] * b[i];
+            int low = (int) r;
+            int high = (int) (r >>> 32);
+            // the product fits in an int iff the high word is just the sign extension of the low
+            int excess = high ^ (low >> 31);
+            int overflowed = (excess | -excess) >> 31;
+            // the high word has the sign of the exact product
+            int bound = saturated(high);
+            out[i] = (low & ~overflowed) | (bound & overflowed);
+        }
+    }
+
+    /**
+     * @return the bound that an overflowing result with the sign of {@code x} is clamped to:
+     *         {@code Integer.MIN_VALUE} if {@code x} is negative, otherwise
+     *         {@code Integer.MAX_VALUE}
+     */
+    private static int saturated(int x) {
+        return (x >> 31) ^ Integer.MAX_VALUE;
+    }
+
 }
@@ -0,0 +1,104 @@
+package com.jashburn.junit5.assertions;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Bounded concurrent map that evicts with the CLOCK algorithm, an approximation of least recently
+ * used. Lookups go straight to a {@code ConcurrentHashMap} and only set a reference bit, so they
+ * take no lock. Each insertion claims a slot in a ring of {@code maxSize} keys, moving the clock
+ * hand past (and clearing the bit of) recently used entries, and evicts the entry in the first slot
+ * whose bit is clear.
+ * <p>
+ * Values are computed outside of any lock, so two threads missing on the same key at the same time
+ * may both compute a value; only the first one stored is kept and returned to both. This suits
+ * cheap, side-effect free computations. While insertions are in progress, the map may briefly hold
+ * up to one entry more than {@code maxSize} per inserting thread.
+ */
+final class ClockCache<K, V> {
+
+    private final ConcurrentHashMap<K, Node<V>> entries;
+    private final AtomicReferenceArray<K> ring;
+    private final AtomicInteger hand = new AtomicInteger();
+
+    ClockCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        this.entries = new ConcurrentHashMap<>(Math.min(maxSize, 1 << 16));
+        this.ring = new AtomicReferenceArray<>(maxSize);
+    }
+
+    /**
+     * @param key looked up as is, but only stored after being passed through {@code storedKey}, so
+     *        that a reusable probe can be used for lookups
+     */
+    V computeIfAbsent(K key, Function<? super K, ? extends K> storedKey,
+            Function<? super K, ? extends V> mappingFunction) {
+        Node<V> node = entries.get(key);
+        if (node != null) {
+            if (!node.referenced) {
+                node.referenced = true;
+            }
+            return node.value;
+        }
+        K stored = storedKey.apply(key);
+        Node<V> created = new Node<>(mappingFunction.apply(stored));
+        Node<V> existing = entries.putIfAbsent(stored, created);
+        if (existing != null) {
+            return existing.value;
+        }
+        admit(stored);
+        return created.value;
+    }
+
+    V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        return computeIfAbsent(key, Function.identity(), mappingFunction);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Puts {@code key} in the ring, evicting the entry whose slot it takes. Every pass of the hand
+     * clears the bits it moves past, so a free slot is found within two turns of the ring.
+     */
+    private void admit(K key) {
+        int slots = ring.length();
+        while (true) {
+            int slot = (hand.getAndIncrement() & Integer.MAX_VALUE) % slots;
+            K current = ring.get(slot);
+            if (current == null) {
+                if (ring.compareAndSet(slot, null, key)) {
+                    return;
+                }
+                continue;
+            }
+            Node<V> node = entries.get(current);
+            if (node != null && node.referenced) {
+                node.referenced = false;
+                continue;
+            }
+            if (ring.compareAndSet(slot, current, key)) {
+                if (node != null) {
+                    entries.remove(current, node);
+                }
+                return;
+            }
+        }
+    }
+
+    private static final class Node<V> {
+
+        final V value;
+        // racy by design: a lost update only changes which entry is evicted next
+        volatile boolean referenced;
+
+        Node(V value) {
+            this.value = value;
+        }
+    }
+}
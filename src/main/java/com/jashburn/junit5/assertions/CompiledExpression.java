@@ -0,0 +1,75 @@
+package com.jashburn.junit5.assertions;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Arithmetic expression compiled by {@link ExpressionCompiler} into a tree of closures over
+ * {@link Calculator} operations. Variables are resolved to slots at compile time, so evaluating an
+ * expression neither parses nor allocates. Instances are immutable and can be evaluated from any
+ * number of threads.
+ */
+public final class CompiledExpression {
+
+    /** A node of the closure tree. */
+    @FunctionalInterface
+    interface Node {
+        int evaluate(int[] variables);
+    }
+
+    private final String text;
+    private final List<String> variables;
+    private final Node root;
+
+    CompiledExpression(String text, List<String> variables, Node root) {
+        this.text = text;
+        this.variables = variables;
+        this.root = root;
+    }
+
+    /**
+     * @return the names of the expression's variables, in order of first appearance; this is the
+     *         order in which {@link #evaluate(int...)} expects their values
+     */
+    public List<String> variables() {
+        return variables;
+    }
+
+    /**
+     * @param values the value of each variable, in the order of {@link #variables()}
+     * @throws IllegalArgumentException if the number of values does not match the number of
+     *         variables
+     * @throws ArithmeticException on division by zero, or on overflow if the compiler's overflow
+     *         policy is {@link Calculator.Overflow#THROW}
+     */
+    public int evaluate(int... values) {
+        if (values.length != variables.size()) {
+            throw new IllegalArgumentException("Expected " + variables.size()
+                    + " values for " + variables + " but got " + values.length);
+        }
+        return root.evaluate(values);
+    }
+
+    /**
+     * Convenience variant that looks up each variable by name; unlike {@link #evaluate(int...)},
+     * this allocates an array per call.
+     *
+     * @throws IllegalArgumentException if a variable has no value
+     */
+    public int evaluate(Map<String, Integer> values) {
+        int[] slots = new int[variables.size()];
+        for (int i = 0; i < slots.length; i++) {
+            Integer value = values.get(variables.get(i));
+            if (value == null) {
+                throw new IllegalArgumentException("No value for variable " + variables.get(i));
+            }
+            slots[i] = value;
+        }
+        return root.evaluate(slots);
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
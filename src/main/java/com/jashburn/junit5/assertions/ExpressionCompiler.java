@@ -0,0 +1,319 @@
+package com.jashburn.junit5.assertions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import com.jashburn.junit5.assertions.Calculator.Overflow;
+import com.jashburn.junit5.assertions.CompiledExpression.Node;
+
+/**
+ * Compiles integer arithmetic formulas such as {@code "(price - discount) * quantity / 100"} into
+ * reusable {@link CompiledExpression}s, evaluated with the operations of {@link Calculator}.
+ * <p>
+ * The grammar supports {@code + - * /}, unary minus, parentheses, non-negative integer literals
+ * and variables (a letter or underscore followed by letters, digits or underscores), with the usual
+ * precedence and left associativity. Unary minus is subtraction from zero under the overflow
+ * policy, so negating {@code Integer.MIN_VALUE} wraps, saturates or throws like any other
+ * operation. Parentheses and unary minus may be nested at most {@value #MAX_DEPTH} deep, while
+ * a run of operators of the same precedence, however long, is evaluated in a loop.
+ * Sub-expressions made only of literals are evaluated at compile time.
+ * <p>
+ * Compiled expressions are kept in a least recently used cache keyed by the expression text, so
+ * compiling the same formula again skips parsing. A compiler can be shared between threads.
+ */
+public class ExpressionCompiler {
+
+    private static final int DEFAULT_CACHE_SIZE = 256;
+    // deep enough for any real formula, shallow enough for the parser's recursion to fit any stack
+    private static final int MAX_DEPTH = 256;
+
+    private final Calculator calculator = new Calculator();
+    private final Overflow overflow;
+    private final LruCache<String, CompiledExpression> cache;
+
+    /**
+     * Wraps on overflow, and caches up to 256 expressions.
+     */
+    public ExpressionCompiler() {
+        this(Overflow.WRAP, DEFAULT_CACHE_SIZE);
+    }
+
+    public ExpressionCompiler(Overflow overflow, int cacheSize) {
+        this.overflow = overflow;
+        this.cache = new LruCache<>(cacheSize);
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code text} is not a valid expression
+     */
+    public CompiledExpression compile(String text) {
+        return cache.computeIfAbsent(text, key -> new Parser(key).parse());
+    }
+
+    int cachedExpressions() {
+        return cache.size();
+    }
+
+    /** Recursive descent parser; one instance per expression text. */
+    private final class Parser {
+
+        private final String text;
+        private final List<String> variables = new ArrayList<>();
+        private int position;
+        private int depth;
+
+        Parser(String text) {
+            this.text = text;
+        }
+
+        CompiledExpression parse() {
+            Node root = expression();
+            skipWhitespace();
+            if (position < text.length()) {
+                throw error("Unexpected '" + text.charAt(position) + "'");
+            }
+            return new CompiledExpression(text, Collections.unmodifiableList(variables), root);
+        }
+
+        // expression := term (('+' | '-') term)*
+        private Node expression() {
+            Node first = term();
+            List<Node> operands = new ArrayList<>();
+            StringBuilder operators = new StringBuilder();
+            while (true) {
+                if (consume('+')) {
+                    operators.append('+');
+                } else if (consume('-')) {
+                    operators.append('-');
+                } else {
+                    return chain(first, operands, operators);
+                }
+                operands.add(term());
+            }
+        }
+
+        // term := unary (('*' | '/') unary)*
+        private Node term() {
+            Node first = unary();
+            List<Node> operands = new ArrayList<>();
+            StringBuilder operators = new StringBuilder();
+            while (true) {
+                if (consume('*')) {
+                    operators.append('*');
+                } else if (consume('/')) {
+                    operators.append('/');
+                } else {
+                    return chain(first, operands, operators);
+                }
+                operands.add(unary());
+            }
+        }
+
+        // unary := '-' unary | primary
+        private Node unary() {
+            if (consume('-')) {
+                enter();
+                Node operand = unary();
+                depth--;
+                return negation(operand);
+            }
+            return primary();
+        }
+
+        // primary := number | variable | '(' expression ')'
+        private Node primary() {
+            skipWhitespace();
+            if (position >= text.length()) {
+                throw error("Unexpected end of expression");
+            }
+            char c = text.charAt(position);
+            if (c == '(') {
+                enter();
+                position++;
+                Node inner = expression();
+                depth--;
+                if (!consume(')')) {
+                    throw error("Expected ')'");
+                }
+                return inner;
+            }
+            if (Character.isDigit(c)) {
+                int start = position;
+                while (position < text.length() && Character.isDigit(text.charAt(position))) {
+                    position++;
+                }
+                try {
+                    return constant(Integer.parseInt(text.substring(start, position)));
+                } catch (NumberFormatException e) {
+                    position = start;
+                    throw error("Integer literal out of range");
+                }
+            }
+            if (Character.isLetter(c) || c == '_') {
+                int start = position;
+                while (position < text.length() && (Character.isLetterOrDigit(text.charAt(position))
+                        || text.charAt(position) == '_')) {
+                    position++;
+                }
+                return variable(text.substring(start, position));
+            }
+            throw error("Unexpected '" + c + "'");
+        }
+
+        private Node variable(String name) {
+            int slot = variables.indexOf(name);
+            if (slot < 0) {
+                slot = variables.size();
+                variables.add(name);
+            }
+            int index = slot;
+            return values -> values[index];
+        }
+
+        private Node negation(Node operand) {
+            return binary(constant(0), operand, '-');
+        }
+
+        /**
+         * Applies {@code operators} from left to right, folding the leading operands while they
+         * are constant. A longer run becomes a single {@link Chain} evaluated in a loop, so that
+         * evaluating a long flat formula does not recurse once per operator.
+         */
+        private Node chain(Node first, List<Node> operands, CharSequence operators) {
+            Node left = first;
+            int i = 0;
+            while (i < operands.size() && left instanceof Constant
+                    && operands.get(i) instanceof Constant) {
+                left = binary(left, operands.get(i), operators.charAt(i));
+                i++;
+            }
+            int remaining = operands.size() - i;
+            if (remaining == 0) {
+                return left;
+            }
+            if (remaining == 1) {
+                return operation(left, operands.get(i), operators.charAt(i));
+            }
+            return new Chain(calculator, overflow, left,
+                    operands.subList(i, operands.size()).toArray(new Node[0]),
+                    operators.subSequence(i, operators.length()).toString().toCharArray());
+        }
+
+        private Node binary(Node left, Node right, char operator) {
+            Node node = operation(left, right, operator);
+            if (left instanceof Constant && right instanceof Constant) {
+                try {
+                    return constant(node.evaluate(null));
+                } catch (ArithmeticException e) {
+                    // e.g., division by zero: leave it to fail when evaluated
+                }
+            }
+            return node;
+        }
+
+        private Node operation(Node left, Node right, char operator) {
+            Calculator calc = calculator;
+            Overflow policy = overflow;
+            switch (operator) {
+                case '+':
+                    return values -> calc.add(left.evaluate(values), right.evaluate(values),
+                            policy);
+                case '-':
+                    return values -> calc.subtract(left.evaluate(values), right.evaluate(values),
+                            policy);
+                case '*':
+                    return values -> calc.multiply(left.evaluate(values), right.evaluate(values),
+                            policy);
+                default:
+                    return values -> calc.divide(left.evaluate(values), right.evaluate(values),
+                            policy);
+            }
+        }
+
+        private Node constant(int value) {
+            return new Constant(value);
+        }
+
+        private boolean consume(char expected) {
+            skipWhitespace();
+            if (position < text.length() && text.charAt(position) == expected) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void skipWhitespace() {
+            while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+                position++;
+            }
+        }
+
+        private void enter() {
+            if (++depth > MAX_DEPTH) {
+                throw error("Nested more than " + MAX_DEPTH + " deep");
+            }
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(
+                    message + " at position " + position + " in: " + text);
+        }
+    }
+
+    /** A left-associative run of operators of the same precedence. */
+    private static final class Chain implements Node {
+
+        private final Calculator calculator;
+        private final Overflow overflow;
+        private final Node first;
+        private final Node[] operands;
+        private final char[] operators;
+
+        Chain(Calculator calculator, Overflow overflow, Node first, Node[] operands,
+                char[] operators) {
+            this.calculator = calculator;
+            this.overflow = overflow;
+            this.first = first;
+            this.operands = operands;
+            this.operators = operators;
+        }
+
+        @Override
+        public int evaluate(int[] variables) {
+            int result = first.evaluate(variables);
+            for (int i = 0; i < operands.length; i++) {
+                int operand = operands[i].evaluate(variables);
+                switch (operators[i]) {
+                    case '+':
+                        result = calculator.add(result, operand, overflow);
+                        break;
+                    case '-':
+                        result = calculator.subtract(result, operand, overflow);
+                        break;
+                    case '*':
+                        result = calculator.multiply(result, operand, overflow);
+                        break;
+                    default:
+                        result = calculator.divide(result, operand, overflow);
+                        break;
+                }
+            }
+            return result;
+        }
+    }
+
+    private static final class Constant implements Node {
+
+        private final int value;
+
+        Constant(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public int evaluate(int[] variables) {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.jashburn.junit5.assertions;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import com.jashburn.junit5.assertions.Person.Gender;
+
+/**
+ * Precompiled greeting such as {@code "Hi! I'm {firstName}"}, rendered for a {@link Person}.
+ * <p>
+ * The placeholders are {@code {firstName}}, {@code {lastName}}, {@code {gender}} and
+ * {@code {dateOfBirth}}; {@code {{} and {@code }}} stand for literal braces. A missing field is
+ * rendered as {@code null}, as string concatenation would. Templates are split into literal text
+ * and fields once, when compiled, and compiled templates are cached by pattern, so rendering only
+ * appends. To avoid building intermediate strings, render straight into a caller's
+ * {@link Appendable} or {@link StringBuilder}. Templates are immutable.
+ */
+public final class GreetingTemplate {
+
+    private enum Field {
+        FIRST_NAME, LAST_NAME, GENDER, DATE_OF_BIRTH
+    }
+
+    private static final LruCache<String, GreetingTemplate> CACHE = new LruCache<>(256);
+
+    /** The greeting of {@link Person#greeting()}. */
+    public static final GreetingTemplate DEFAULT = compile("Hi! I'm {firstName}");
+
+    private final String pattern;
+    /** The text around the fields: {@code literals[i]} precedes {@code fields[i]}. */
+    private final String[] literals;
+    private final Field[] fields;
+    private final int literalLength;
+
+    private GreetingTemplate(String pattern, List<String> literals, List<Field> fields) {
+        this.pattern = pattern;
+        this.literals = literals.toArray(new String[0]);
+        this.fields = fields.toArray(new Field[0]);
+        this.literalLength = literals.stream().mapToInt(String::length).sum();
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code pattern} has an unknown or unclosed placeholder
+     */
+    public static GreetingTemplate compile(String pattern) {
+        return CACHE.computeIfAbsent(pattern, GreetingTemplate::parse);
+    }
+
+    public String render(Person person) {
+        return renderTo(person, new StringBuilder(literalLength + 16 * fields.length)).toString();
+    }
+
+    public StringBuilder renderTo(Person person, StringBuilder out) {
+        try {
+            renderTo(person, (Appendable) out);
+            return out;
+        } catch (IOException e) {
+            // a StringBuilder does not throw
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public <A extends Appendable> A renderTo(Person person, A out) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            out.append(literals[i]);
+            appendField(person, fields[i], out);
+        }
+        out.append(literals[fields.length]);
+        return out;
+    }
+
+    private static void appendField(Person person, Field field, Appendable out)
+            throws IOException {
+        switch (field) {
+            case FIRST_NAME:
+                out.append(person.getFirstName());
+                break;
+            case LAST_NAME:
+                out.append(person.getLastName());
+                break;
+            case GENDER:
+                Gender gender = person.getGender();
+                out.append(gender == null ? null : gender.name());
+                break;
+            default:
+                appendDate(person.getDateOfBirth(), out);
+                break;
+        }
+    }
+
+    /**
+     * Appends the ISO-8601 form of {@code date}, digit by digit for years 0 to 9999 so that no
+     * intermediate string is built.
+     */
+    private static void appendDate(LocalDate date, Appendable out) throws IOException {
+        if (date == null || date.getYear() < 0 || date.getYear() > 9999) {
+            out.append(String.valueOf(date));
+            return;
+        }
+        int year = date.getYear();
+        out.append((char) ('0' + year / 1000)).append((char) ('0' + year / 100 % 10))
+                .append((char) ('0' + year / 10 % 10)).append((char) ('0' + year % 10));
+        appendTwoDigits(date.getMonthValue(), out.append('-'));
+        appendTwoDigits(date.getDayOfMonth(), out.append('-'));
+    }
+
+    private static void appendTwoDigits(int value, Appendable out) throws IOException {
+        out.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+    }
+
+    private static GreetingTemplate parse(String pattern) {
+        List<String> literals = new ArrayList<>();
+        List<Field> fields = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i);
+            if (c == '}' || c == '{' && pattern.startsWith("{{", i)) {
+                if (i + 1 >= pattern.length() || pattern.charAt(i + 1) != c) {
+                    throw new IllegalArgumentException(
+                            "Unmatched '}' at position " + i + " in: " + pattern);
+                }
+                literal.append(c);
+                i += 2;
+            } else if (c == '{') {
+                int end = pattern.indexOf('}', i);
+                if (end < 0) {
+                    throw new IllegalArgumentException(
+                            "Unclosed placeholder at position " + i + " in: " + pattern);
+                }
+                fields.add(field(pattern.substring(i + 1, end), i, pattern));
+                literals.add(literal.toString());
+                literal.setLength(0);
+                i = end + 1;
+            } else {
+                literal.append(c);
+                i++;
+            }
+        }
+        literals.add(literal.toString());
+        return new GreetingTemplate(pattern, literals, fields);
+    }
+
+    private static Field field(String name, int position, String pattern) {
+        switch (name) {
+            case "firstName":
+                return Field.FIRST_NAME;
+            case "lastName":
+                return Field.LAST_NAME;
+            case "gender":
+                return Field.GENDER;
+            case "dateOfBirth":
+                return Field.DATE_OF_BIRTH;
+            default:
+                throw new IllegalArgumentException("Unknown placeholder {" + name
+                        + "} at position " + position + " in: " + pattern);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+}
@@ -0,0 +1,40 @@
+package com.jashburn.junit5.assertions;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Bounded map that evicts the least recently used entry once it is full. All operations
+ * synchronize on the cache, so it can be shared between threads; values are computed while holding
+ * the lock, which suits cheap, side-effect free computations.
+ */
+final class LruCache<K, V> {
+
+    private final int maxSize;
+    private final Map<K, V> entries;
+
+    LruCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > LruCache.this.maxSize;
+            }
+        };
+    }
+
+    synchronized V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        return entries.computeIfAbsent(key, mappingFunction);
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+}
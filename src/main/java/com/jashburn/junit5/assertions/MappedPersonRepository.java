@@ -0,0 +1,308 @@
+package com.jashburn.junit5.assertions;
+
+import static com.jashburn.junit5.assertions.PersonFields.MAX_NAME_BYTES;
+import static com.jashburn.junit5.assertions.PersonFields.NONE;
+import static com.jashburn.junit5.assertions.PersonFields.dateOfBirth;
+import static com.jashburn.junit5.assertions.PersonFields.epochDay;
+import static com.jashburn.junit5.assertions.PersonFields.gender;
+import static com.jashburn.junit5.assertions.PersonFields.genderCode;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import com.jashburn.junit5.assertions.Person.Gender;
+
+/**
+ * Off-heap store of people in a memory-mapped file, so that large batches put no pressure on the
+ * garbage collector and a file written by one process can be reopened by the next without parsing.
+ * <p>
+ * The file is laid out as:
+ * <ol>
+ * <li>a 32 byte header: magic number, format version, record count, record capacity and the number
+ * of bytes used in the string heap</li>
+ * <li>{@code capacity} fixed-width 16 byte records: the heap offsets of the first and last names,
+ * the epoch day of the date of birth and the gender ordinal</li>
+ * <li>a string heap of names, each an unsigned 16-bit length followed by UTF-8 bytes</li>
+ * </ol>
+ * Missing values are stored as {@code -1}, or {@link Integer#MIN_VALUE} for the date of birth.
+ * Names added through the same instance are written to the heap only once.
+ * <p>
+ * Records are read through {@link PersonView}s whose getters decode straight from the mapped
+ * buffer. The file is limited to 2 GB by the size of a single mapping. Not thread-safe.
+ */
+public final class MappedPersonRepository implements Closeable {
+
+    private static final int MAGIC = 0x5052534E; // "PRSN"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+    private static final int COUNT_OFFSET = 8;
+    private static final int CAPACITY_OFFSET = 12;
+    private static final int HEAP_SIZE_OFFSET = 16;
+
+    private static final int RECORD_SIZE = 16;
+    private static final int FIRST_NAME = 0;
+    private static final int LAST_NAME = 4;
+    private static final int EPOCH_DAY = 8;
+    private static final int GENDER = 12;
+
+    private final FileChannel channel;
+    private final int capacity;
+    private final int heapStart;
+    private final Map<String, Integer> writtenNames = new HashMap<>();
+    private MappedByteBuffer buffer;
+    private int size;
+    private int heapSize;
+
+    private MappedPersonRepository(FileChannel channel, int capacity, int size, int heapSize,
+            long mappedSize) throws IOException {
+        this.channel = channel;
+        this.capacity = capacity;
+        this.heapStart = HEADER_SIZE + capacity * RECORD_SIZE;
+        this.size = size;
+        this.heapSize = heapSize;
+        this.buffer = channel.map(MapMode.READ_WRITE, 0, mappedSize);
+    }
+
+    /**
+     * Creates a new, empty repository, replacing {@code file} if it exists.
+     *
+     * @param capacity the maximum number of records
+     */
+    public static MappedPersonRepository create(Path file, int capacity) throws IOException {
+        if (!validCapacity(capacity)) {
+            throw new IllegalArgumentException("Capacity out of range: " + capacity);
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            // start with as much heap as there is record space, and grow it on demand
+            long mappedSize = HEADER_SIZE + 2L * capacity * RECORD_SIZE;
+            MappedPersonRepository repository =
+                    new MappedPersonRepository(channel, capacity, 0, 0, mappedSize);
+            repository.buffer.putInt(0, MAGIC);
+            repository.buffer.putInt(4, VERSION);
+            repository.buffer.putInt(CAPACITY_OFFSET, capacity);
+            repository.writeCounts();
+            return repository;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens a repository written earlier, for reading and appending.
+     *
+     * @throws IOException if {@code file} is not a repository in a supported format, or its header
+     *         does not match the size of the file
+     */
+    public static MappedPersonRepository open(Path file) throws IOException {
+        FileChannel channel =
+                FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // keep reading until the header is complete or the file ends
+            }
+            if (header.hasRemaining() || header.getInt(0) != MAGIC) {
+                throw new IOException("Not a person repository: " + file);
+            }
+            if (header.getInt(4) != VERSION) {
+                throw new IOException("Unsupported version " + header.getInt(4) + ": " + file);
+            }
+            int capacity = header.getInt(CAPACITY_OFFSET);
+            int size = header.getInt(COUNT_OFFSET);
+            int heapSize = header.getInt(HEAP_SIZE_OFFSET);
+            long fileSize = channel.size();
+            if (!validCapacity(capacity) || size < 0 || size > capacity || heapSize < 0
+                    || HEADER_SIZE + (long) capacity * RECORD_SIZE + heapSize > fileSize
+                    || fileSize > Integer.MAX_VALUE) {
+                throw new IOException("Corrupt header: capacity " + capacity + ", count " + size
+                        + ", heap size " + heapSize + ", file size " + fileSize + ": " + file);
+            }
+            return new MappedPersonRepository(channel, capacity, size, heapSize, fileSize);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return the index of the new record
+     */
+    public int add(Person person) {
+        return add(person.getFirstName(), person.getLastName(), person.getGender(),
+                person.getDateOfBirth());
+    }
+
+    /**
+     * @return the index of the new record
+     * @throws IllegalStateException if the repository is full, or the file would exceed 2 GB
+     * @throws IllegalArgumentException if a name is longer than 65535 UTF-8 bytes, or the epoch day
+     *         of {@code dateOfBirth} does not fit in an {@code int}
+     */
+    public int add(String firstName, String lastName, Gender gender, LocalDate dateOfBirth) {
+        if (size == capacity) {
+            throw new IllegalStateException("Repository is full: " + capacity + " records");
+        }
+        int epochDay = epochDay(dateOfBirth);
+        int record = HEADER_SIZE + size * RECORD_SIZE;
+        buffer.putInt(record + FIRST_NAME, writeName(firstName));
+        buffer.putInt(record + LAST_NAME, writeName(lastName));
+        buffer.putInt(record + EPOCH_DAY, epochDay);
+        buffer.put(record + GENDER, genderCode(gender));
+        size++;
+        writeCounts();
+        return size - 1;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return a view of the record at {@code index}; it must not be used after the repository is
+     *         closed
+     */
+    public PersonView get(int index) {
+        Objects.checkIndex(index, size);
+        Cursor cursor = new Cursor();
+        cursor.record = HEADER_SIZE + index * RECORD_SIZE;
+        return cursor;
+    }
+
+    /**
+     * Passes each record in turn to {@code action} through a single flyweight view, which must not
+     * be kept beyond the call.
+     */
+    public void forEach(Consumer<? super PersonView> action) {
+        Cursor cursor = new Cursor();
+        for (int i = 0; i < size; i++) {
+            cursor.record = HEADER_SIZE + i * RECORD_SIZE;
+            action.accept(cursor);
+        }
+    }
+
+    /**
+     * Writes any changes to the storage device.
+     */
+    public void force() {
+        buffer.force();
+    }
+
+    /**
+     * Forces any changes to the storage device and closes the file. The mapping itself is released
+     * once it is garbage collected.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            force();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private int writeName(String name) {
+        if (name == null) {
+            return NONE;
+        }
+        Integer written = writtenNames.get(name);
+        if (written != null) {
+            return written;
+        }
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_NAME_BYTES) {
+            throw new IllegalArgumentException("Name too long: " + bytes.length + " bytes");
+        }
+        ensureHeapCapacity(Short.BYTES + bytes.length);
+        int offset = heapSize;
+        int position = heapStart + offset;
+        buffer.putShort(position, (short) bytes.length);
+        buffer.put(position + Short.BYTES, bytes);
+        heapSize += Short.BYTES + bytes.length;
+        writtenNames.put(name, offset);
+        return offset;
+    }
+
+    private String readName(int offset) {
+        if (offset == NONE) {
+            return null;
+        }
+        int position = heapStart + offset;
+        byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort(position))];
+        buffer.get(position + Short.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void ensureHeapCapacity(int bytes) {
+        long required = (long) heapStart + heapSize + bytes;
+        if (required <= buffer.capacity()) {
+            return;
+        }
+        long grown = Math.min(Math.max(required, 2L * buffer.capacity()), Integer.MAX_VALUE);
+        if (required > grown) {
+            throw new IllegalStateException("Repository file would exceed 2 GB");
+        }
+        try {
+            buffer = channel.map(MapMode.READ_WRITE, 0, grown);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot grow repository file", e);
+        }
+    }
+
+    private static boolean validCapacity(int capacity) {
+        // leaves room for a heap as large as the records when the file is created
+        return capacity >= 0 && capacity <= (Integer.MAX_VALUE - HEADER_SIZE) / RECORD_SIZE / 2;
+    }
+
+    private void writeCounts() {
+        buffer.putInt(COUNT_OFFSET, size);
+        buffer.putInt(HEAP_SIZE_OFFSET, heapSize);
+    }
+
+    private final class Cursor implements PersonView {
+
+        private int record;
+
+        @Override
+        public String getFirstName() {
+            return readName(buffer.getInt(record + FIRST_NAME));
+        }
+
+        @Override
+        public String getLastName() {
+            return readName(buffer.getInt(record + LAST_NAME));
+        }
+
+        @Override
+        public Gender getGender() {
+            return gender(buffer.get(record + GENDER));
+        }
+
+        @Override
+        public LocalDate getDateOfBirth() {
+            return dateOfBirth(buffer.getInt(record + EPOCH_DAY));
+        }
+
+        @Override
+        public String toString() {
+            return "PersonView [firstName=" + getFirstName() + ", lastName=" + getLastName() + "]";
+        }
+    }
+}
@@ -10,27 +10,37 @@
 package com.jashburn.junit5.assertions;
 
 import java.time.LocalDate;
+import java.util.Objects;
 
-public class Person {
+/**
+ * Immutable, so that the hash code of the name fields is computed once and instances can be used
+ * as hash keys cheaply, and the greeting is only rendered when first asked for. Equality is based
+ * on the first and last name only.
+ */
+public final class Person {
 
     public enum Gender {
         F, M
     }
 
-    private String firstName;
-    private String lastName;
-    private Gender gender;
-    private LocalDate dateOfBirth;
+    private final String firstName;
+    private final String lastName;
+    private final Gender gender;
+    private final LocalDate dateOfBirth;
+    private final int hash;
+    /** Rendered on first use; racy, but every thread renders the same greeting. */
+    private String greeting;
 
     public Person(String firstName, String lastName) {
-        this.firstName = firstName;
-        this.lastName = lastName;
+        this(firstName, lastName, null, null);
     }
 
     public Person(String firstName, String lastName, Gender gender, LocalDate dateOfBirth) {
-        this(firstName, lastName);
+        this.firstName = firstName;
+        this.lastName = lastName;
         this.gender = gender;
         this.dateOfBirth = dateOfBirth;
+        this.hash = hash(firstName, lastName);
     }
 
     public String getFirstName() {
@@ -50,11 +60,15 @@ public class Person {
     }
 
     public String greeting() {
-        return "Hi! I'm " + firstName;
+        String rendered = greeting;
+        if (rendered == null) {
+            rendered = GreetingTemplate.DEFAULT.render(this);
+            greeting = rendered;
+        }
+        return rendered;
     }
 
-    @Override
-    public int hashCode() {
+    private static int hash(String firstName, String lastName) {
         final int prime = 31;
         int result = 1;
         result = prime * result + ((firstName == null) ? 0 : firstName.hashCode());
@@ -62,33 +76,23 @@ public class Person {
         return result;
     }
 
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) {
             return true;
         }
-        if (obj == null) {
-            return false;
-        }
-        if (getClass() != obj.getClass()) {
+        if (!(obj instanceof Person)) {
             return false;
         }
         Person other = (Person) obj;
-        if (firstName == null) {
-            if (other.firstName != null) {
-                return false;
-            }
-        } else if (!firstName.equals(other.firstName)) {
-            return false;
-        }
-        if (lastName == null) {
-            if (other.lastName != null) {
-                return false;
-            }
-        } else if (!lastName.equals(other.lastName)) {
-            return false;
-        }
-        return true;
+        // unequal cached hashes rule out equality without touching the strings
+        return hash == other.hash && Objects.equals(firstName, other.firstName)
+                && Objects.equals(lastName, other.lastName);
     }
 
     @Override
@@ -0,0 +1,268 @@
+package com.jashburn.junit5.assertions;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import com.jashburn.junit5.assertions.Person.Gender;
+
+/**
+ * Compact binary encoding of {@link Person}s, for streams of records over {@link DataOutput} and
+ * {@link DataInput}, or {@link ByteBuffer}s.
+ * <p>
+ * A stream starts with a 4 byte header, {@code "PRS"} followed by the format version, and is
+ * followed by any number of records, each made of:
+ * <ul>
+ * <li>the first and last names, each as an unsigned varint of its UTF-8 length plus one (zero for
+ * a missing name) followed by the UTF-8 bytes</li>
+ * <li>a flags byte: the gender in the low bits (zero if missing, else the ordinal plus one), and
+ * {@code 0x80} if there is a date of birth</li>
+ * <li>if there is one, the epoch day of the date of birth as a zigzag-encoded varint</li>
+ * </ul>
+ * So "Jane Doe", born in 1990, takes 12 bytes. Names are at most {@link #MAX_NAME_LENGTH} bytes
+ * long, so that a corrupt or hostile length cannot make a reader allocate more than that. Malformed
+ * input is reported with an {@code IOException} when reading from a {@code DataInput}, and an
+ * {@code IllegalArgumentException} when reading from a {@code ByteBuffer}.
+ */
+public final class PersonCodec {
+
+    public static final int VERSION = 1;
+
+    /** Maximum length of a name, in UTF-8 bytes; the same limit as MappedPersonRepository's. */
+    public static final int MAX_NAME_LENGTH = PersonFields.MAX_NAME_BYTES;
+
+    private static final int MAGIC = 0x50525300 | VERSION; // "PRS" + version
+    private static final int HAS_DATE = 0x80;
+    private static final int GENDER_MASK = 0x7F;
+    private static final Gender[] GENDERS = Gender.values();
+
+    private PersonCodec() {}
+
+    public static void writeHeader(DataOutput out) throws IOException {
+        out.writeInt(MAGIC);
+    }
+
+    /**
+     * @throws IOException if the header is not that of a supported version
+     */
+    public static void readHeader(DataInput in) throws IOException {
+        checkHeader(in.readInt());
+    }
+
+    /**
+     * @throws IllegalArgumentException if a name is longer than {@link #MAX_NAME_LENGTH} bytes
+     */
+    public static void write(Person person, DataOutput out) throws IOException {
+        writeName(person.getFirstName(), out);
+        writeName(person.getLastName(), out);
+        LocalDate dateOfBirth = person.getDateOfBirth();
+        out.writeByte(flags(person.getGender(), dateOfBirth));
+        if (dateOfBirth != null) {
+            writeVarLong(zigzag(dateOfBirth.toEpochDay()), out);
+        }
+    }
+
+    public static Person read(DataInput in) throws IOException {
+        String firstName = readName(in);
+        String lastName = readName(in);
+        int flags = in.readUnsignedByte();
+        LocalDate dateOfBirth =
+                (flags & HAS_DATE) == 0 ? null : dateOfBirth(unzigzag(readVarLong(in)));
+        return new Person(firstName, lastName, gender(flags), dateOfBirth);
+    }
+
+    public static void writeHeader(ByteBuffer out) {
+        out.putInt(MAGIC);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the header is not that of a supported version
+     */
+    public static void readHeader(ByteBuffer in) {
+        try {
+            checkHeader(in.getInt());
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @throws java.nio.BufferOverflowException if the record does not fit in {@code out}
+     * @throws IllegalArgumentException if a name is longer than {@link #MAX_NAME_LENGTH} bytes
+     */
+    public static void write(Person person, ByteBuffer out) {
+        writeName(person.getFirstName(), out);
+        writeName(person.getLastName(), out);
+        LocalDate dateOfBirth = person.getDateOfBirth();
+        out.put((byte) flags(person.getGender(), dateOfBirth));
+        if (dateOfBirth != null) {
+            writeVarLong(zigzag(dateOfBirth.toEpochDay()), out);
+        }
+    }
+
+    /**
+     * @throws java.nio.BufferUnderflowException if {@code in} ends in the middle of a record
+     */
+    public static Person read(ByteBuffer in) {
+        try {
+            String firstName = readName(in);
+            String lastName = readName(in);
+            int flags = Byte.toUnsignedInt(in.get());
+            LocalDate dateOfBirth =
+                    (flags & HAS_DATE) == 0 ? null : dateOfBirth(unzigzag(readVarLong(in)));
+            return new Person(firstName, lastName, gender(flags), dateOfBirth);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    private static void checkHeader(int header) throws IOException {
+        if ((header & 0xFFFFFF00) != (MAGIC & 0xFFFFFF00)) {
+            throw new IOException("Not a person stream");
+        }
+        if (header != MAGIC) {
+            throw new IOException("Unsupported version " + (header & 0xFF));
+        }
+    }
+
+    private static int flags(Gender gender, LocalDate dateOfBirth) {
+        int flags = gender == null ? 0 : gender.ordinal() + 1;
+        return dateOfBirth == null ? flags : flags | HAS_DATE;
+    }
+
+    private static Gender gender(int flags) throws IOException {
+        int gender = flags & GENDER_MASK;
+        if (gender > GENDERS.length) {
+            throw new IOException("Invalid gender " + gender);
+        }
+        return gender == 0 ? null : GENDERS[gender - 1];
+    }
+
+    private static LocalDate dateOfBirth(long epochDay) throws IOException {
+        try {
+            return LocalDate.ofEpochDay(epochDay);
+        } catch (RuntimeException e) {
+            throw new IOException("Invalid epoch day " + epochDay, e);
+        }
+    }
+
+    private static void writeName(String name, DataOutput out) throws IOException {
+        if (name == null) {
+            out.writeByte(0);
+            return;
+        }
+        byte[] bytes = encodeName(name);
+        writeVarLong(bytes.length + 1L, out);
+        out.write(bytes);
+    }
+
+    private static void writeName(String name, ByteBuffer out) {
+        if (name == null) {
+            out.put((byte) 0);
+            return;
+        }
+        byte[] bytes = encodeName(name);
+        writeVarLong(bytes.length + 1L, out);
+        out.put(bytes);
+    }
+
+    private static byte[] encodeName(String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_NAME_LENGTH) {
+            throw new IllegalArgumentException("Name longer than " + MAX_NAME_LENGTH + " bytes");
+        }
+        return bytes;
+    }
+
+    private static String readName(DataInput in) throws IOException {
+        int length = nameLength(readVarLong(in));
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String readName(ByteBuffer in) throws IOException {
+        int length = nameLength(readVarLong(in));
+        if (length < 0) {
+            return null;
+        }
+        if (length > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        if (in.hasArray()) {
+            // decode straight from the backing array, without an intermediate copy
+            int offset = in.arrayOffset() + in.position();
+            in.position(in.position() + length);
+            return new String(in.array(), offset, length, StandardCharsets.UTF_8);
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return the length of the name encoded as {@code encoded}, or -1 if it is missing
+     * @throws IOException if the length is over {@link #MAX_NAME_LENGTH}, checked before anything
+     *         is allocated for the name
+     */
+    private static int nameLength(long encoded) throws IOException {
+        if (encoded < 0 || encoded > MAX_NAME_LENGTH + 1L) {
+            throw new IOException("Invalid name length " + encoded);
+        }
+        return (int) encoded - 1;
+    }
+
+    private static void writeVarLong(long value, DataOutput out) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static void writeVarLong(long value, ByteBuffer out) {
+        while ((value & ~0x7FL) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    private static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Varint too long");
+    }
+
+    private static long readVarLong(ByteBuffer in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = Byte.toUnsignedInt(in.get());
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Varint too long");
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
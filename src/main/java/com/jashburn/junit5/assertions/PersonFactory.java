@@ -0,0 +1,145 @@
+package com.jashburn.junit5.assertions;
+
+import java.time.LocalDate;
+import java.util.Objects;
+import com.jashburn.junit5.assertions.Person.Gender;
+
+/**
+ * Creates {@link Person}s whose names are deduplicated, for feeds (such as CSV files) where the same
+ * names occur over and over again, each parsed into a separate {@code String}.
+ * <p>
+ * Names are interned in a bounded pool, and the {@code Person}s themselves in a bounded cache of
+ * canonical instances, so that repeated records share a single instance. Both are
+ * {@link ClockCache}s, which evict an entry that has not been used recently once full, so memory
+ * use stays bounded however many distinct names are seen. A factory can be shared between threads,
+ * and lookups that hit take no lock and allocate nothing.
+ * <p>
+ * Canonical instances are keyed on all four fields rather than just the names that
+ * {@link Person#equals(Object)} uses, so that two people with the same name but, say, a different
+ * date of birth are not conflated.
+ */
+public class PersonFactory {
+
+    private static final int DEFAULT_MAX_NAMES = 65_536;
+    private static final int DEFAULT_MAX_PEOPLE = 65_536;
+
+    // a key per thread to look up canonical instances with, copied only when one is added; it is
+    // shared by all factories, and cleared after each lookup so it does not keep names reachable
+    private static final ThreadLocal<Key> PROBE = ThreadLocal.withInitial(Key::new);
+
+    private final ClockCache<String, String> names;
+    private final ClockCache<Key, Person> people;
+
+    public PersonFactory() {
+        this(DEFAULT_MAX_NAMES, DEFAULT_MAX_PEOPLE);
+    }
+
+    /**
+     * @param maxNames the maximum number of names to keep in the pool
+     * @param maxPeople the maximum number of canonical {@code Person}s to keep
+     */
+    public PersonFactory(int maxNames, int maxPeople) {
+        this.names = new ClockCache<>(maxNames);
+        this.people = new ClockCache<>(maxPeople);
+    }
+
+    /**
+     * @return the pooled instance equal to {@code name}, which becomes the pooled instance if there
+     *         is none; {@code null} if {@code name} is
+     */
+    public String intern(String name) {
+        if (name == null) {
+            return null;
+        }
+        return names.computeIfAbsent(name, key -> key);
+    }
+
+    public Person create(String firstName, String lastName) {
+        return create(firstName, lastName, null, null);
+    }
+
+    /**
+     * @return the canonical {@code Person} with these fields, which is created (with interned
+     *         names) if there is none
+     */
+    public Person create(String firstName, String lastName, Gender gender, LocalDate dateOfBirth) {
+        String first = intern(firstName);
+        String last = intern(lastName);
+        Key probe = PROBE.get();
+        try {
+            return people.computeIfAbsent(probe.set(first, last, gender, dateOfBirth), Key::copy,
+                    key -> new Person(first, last, gender, dateOfBirth));
+        } finally {
+            probe.clear();
+        }
+    }
+
+    int pooledNames() {
+        return names.size();
+    }
+
+    int cachedPeople() {
+        return people.size();
+    }
+
+    /**
+     * Mutable so that a thread can reuse one for lookups; keys stored in the cache are copies that
+     * are never changed.
+     */
+    private static final class Key {
+
+        private String firstName;
+        private String lastName;
+        private Gender gender;
+        private LocalDate dateOfBirth;
+        private int hash;
+
+        Key set(String firstName, String lastName, Gender gender, LocalDate dateOfBirth) {
+            this.firstName = firstName;
+            this.lastName = lastName;
+            this.gender = gender;
+            this.dateOfBirth = dateOfBirth;
+            int h = Objects.hashCode(firstName);
+            h = 31 * h + Objects.hashCode(lastName);
+            h = 31 * h + Objects.hashCode(gender);
+            this.hash = 31 * h + Objects.hashCode(dateOfBirth);
+            return this;
+        }
+
+        void clear() {
+            firstName = null;
+            lastName = null;
+            gender = null;
+            dateOfBirth = null;
+        }
+
+        Key copy() {
+            Key copy = new Key();
+            copy.firstName = firstName;
+            copy.lastName = lastName;
+            copy.gender = gender;
+            copy.dateOfBirth = dateOfBirth;
+            copy.hash = hash;
+            return copy;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return hash == other.hash && Objects.equals(firstName, other.firstName)
+                    && Objects.equals(lastName, other.lastName) && gender == other.gender
+                    && Objects.equals(dateOfBirth, other.dateOfBirth);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.jashburn.junit5.assertions;
+
+import java.time.LocalDate;
+import com.jashburn.junit5.assertions.Person.Gender;
+
+/**
+ * Primitive encodings of {@link Person} fields shared by {@link PersonStore} and
+ * {@link MappedPersonRepository}: the gender as its ordinal in a byte, the date of birth as an
+ * {@code int} epoch day, and {@link #NONE} or {@link #NO_DATE} for missing values. Names stored
+ * or encoded in binary, including by {@link PersonCodec}, are limited to {@link #MAX_NAME_BYTES}.
+ */
+final class PersonFields {
+
+    /** A missing name or gender. */
+    static final int NONE = -1;
+    /** A missing date of birth. */
+    static final int NO_DATE = Integer.MIN_VALUE;
+    /**
+     * Maximum length of a name in UTF-8 bytes: the largest length that fits the unsigned 16-bit
+     * prefix of {@link MappedPersonRepository}.
+     */
+    static final int MAX_NAME_BYTES = 0xFFFF;
+
+    private static final Gender[] GENDERS = Gender.values();
+
+    private PersonFields() {}
+
+    static byte genderCode(Gender gender) {
+        return gender == null ? NONE : (byte) gender.ordinal();
+    }
+
+    static Gender gender(byte code) {
+        return code == NONE ? null : GENDERS[code];
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code date} is too far from 1970 for its epoch day to
+     *         fit in an {@code int}
+     */
+    static int epochDay(LocalDate date) {
+        if (date == null) {
+            return NO_DATE;
+        }
+        long epochDay = date.toEpochDay();
+        if (epochDay <= NO_DATE || epochDay > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Date out of range: " + date);
+        }
+        return (int) epochDay;
+    }
+
+    static LocalDate dateOfBirth(int epochDay) {
+        return epochDay == NO_DATE ? null : LocalDate.ofEpochDay(epochDay);
+    }
+}
@@ -0,0 +1,215 @@
+package com.jashburn.junit5.assertions;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import com.jashburn.junit5.assertions.Person.Gender;
+
+/**
+ * In-memory secondary indexes over a collection of {@link Person}s, so that filtering by last
+ * name, gender and date of birth does not need a linear scan.
+ * <p>
+ * Each person is given an id, a slot that is reused once the person is removed. Every index maps
+ * a key to the {@link BitSet} of ids with that key: a hash index on last name, a bitmap per
+ * {@link Gender}, and a sorted index on the epoch day of the date of birth for range queries.
+ * A {@link Query} combines criteria by intersecting their bitmaps; a date range that spans more
+ * days than there are candidates left checks the candidates' dates instead. People without a
+ * gender or a date of birth never match a criterion on that field. Not thread-safe.
+ */
+public final class PersonIndex {
+
+    private final List<Person> people = new ArrayList<>();
+    private final BitSet live = new BitSet();
+    private final Map<String, BitSet> byLastName = new HashMap<>();
+    private final Map<Gender, BitSet> byGender = new EnumMap<>(Gender.class);
+    private final NavigableMap<Long, BitSet> byEpochDay = new TreeMap<>();
+
+    /**
+     * @return the id of the person in this index
+     */
+    public int add(Person person) {
+        Objects.requireNonNull(person, "person");
+        int id = live.nextClearBit(0);
+        if (id == people.size()) {
+            people.add(person);
+        } else {
+            people.set(id, person);
+        }
+        live.set(id);
+        byLastName.computeIfAbsent(person.getLastName(), key -> new BitSet()).set(id);
+        if (person.getGender() != null) {
+            byGender.computeIfAbsent(person.getGender(), key -> new BitSet()).set(id);
+        }
+        if (person.getDateOfBirth() != null) {
+            byEpochDay.computeIfAbsent(person.getDateOfBirth().toEpochDay(), key -> new BitSet())
+                    .set(id);
+        }
+        return id;
+    }
+
+    /**
+     * @return the person that was removed, or {@code null} if there was none with this id
+     */
+    public Person remove(int id) {
+        if (id < 0 || !live.get(id)) {
+            return null;
+        }
+        Person person = people.set(id, null);
+        live.clear(id);
+        clear(byLastName, person.getLastName(), id);
+        if (person.getGender() != null) {
+            clear(byGender, person.getGender(), id);
+        }
+        if (person.getDateOfBirth() != null) {
+            clear(byEpochDay, person.getDateOfBirth().toEpochDay(), id);
+        }
+        return person;
+    }
+
+    /**
+     * @return the person with this id, or {@code null} if there is none
+     */
+    public Person get(int id) {
+        return id >= 0 && live.get(id) ? people.get(id) : null;
+    }
+
+    public int size() {
+        return live.cardinality();
+    }
+
+    /**
+     * @return a new query matching everyone in the index, to be narrowed down with criteria
+     */
+    public Query query() {
+        return new Query();
+    }
+
+    private static <K> void clear(Map<K, BitSet> index, K key, int id) {
+        BitSet ids = index.get(key);
+        ids.clear(id);
+        if (ids.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    /**
+     * Conjunction of criteria. The query starts from a snapshot of the ids in the index when it is
+     * created, and each criterion narrows the matching ids as soon as it is added, so later changes
+     * to the index are not seen by the query.
+     */
+    public final class Query {
+
+        private final BitSet matches = (BitSet) live.clone();
+
+        private Query() {}
+
+        public Query lastName(String lastName) {
+            return and(byLastName.get(lastName));
+        }
+
+        public Query gender(Gender gender) {
+            return and(byGender.get(gender));
+        }
+
+        /**
+         * Keeps those born between {@code from} and {@code to}, both inclusive; none if
+         * {@code from} is after {@code to}.
+         */
+        public Query bornBetween(LocalDate from, LocalDate to) {
+            return bornBetween(from.toEpochDay(), to.toEpochDay());
+        }
+
+        /**
+         * Keeps those born strictly after {@code date}.
+         */
+        public Query bornAfter(LocalDate date) {
+            // in epoch days, which unlike LocalDate do not overflow one day past LocalDate.MAX
+            return bornBetween(date.toEpochDay() + 1, LocalDate.MAX.toEpochDay());
+        }
+
+        /**
+         * Keeps those born strictly before {@code date}.
+         */
+        public Query bornBefore(LocalDate date) {
+            return bornBetween(LocalDate.MIN.toEpochDay(), date.toEpochDay() - 1);
+        }
+
+        private Query bornBetween(long first, long last) {
+            if (first > last) {
+                matches.clear();
+                return this;
+            }
+            Map<Long, BitSet> days = byEpochDay.subMap(first, true, last, true);
+            if (hasMoreEntries(days, matches.cardinality())) {
+                // fewer candidates left than days in the range, so check their dates directly
+                for (int id = matches.nextSetBit(0); id >= 0; id = matches.nextSetBit(id + 1)) {
+                    LocalDate dateOfBirth = people.get(id).getDateOfBirth();
+                    if (dateOfBirth == null || dateOfBirth.toEpochDay() < first
+                            || dateOfBirth.toEpochDay() > last) {
+                        matches.clear(id);
+                    }
+                }
+                return this;
+            }
+            BitSet range = new BitSet();
+            for (BitSet ids : days.values()) {
+                range.or(ids);
+            }
+            return and(range);
+        }
+
+        /**
+         * @return a copy of the ids of the matching people
+         */
+        public BitSet ids() {
+            return (BitSet) matches.clone();
+        }
+
+        public int count() {
+            return matches.cardinality();
+        }
+
+        /**
+         * @return the matching people, in order of id
+         */
+        public List<Person> find() {
+            List<Person> found = new ArrayList<>(matches.cardinality());
+            for (int id = matches.nextSetBit(0); id >= 0; id = matches.nextSetBit(id + 1)) {
+                found.add(people.get(id));
+            }
+            return found;
+        }
+
+        /**
+         * Counts at most {@code limit + 1} entries, as the size of a {@code TreeMap} sub-map is
+         * found by walking the whole range.
+         */
+        private boolean hasMoreEntries(Map<Long, BitSet> days, int limit) {
+            Iterator<Long> keys = days.keySet().iterator();
+            for (int i = 0; i <= limit; i++) {
+                if (!keys.hasNext()) {
+                    return false;
+                }
+                keys.next();
+            }
+            return true;
+        }
+
+        private Query and(BitSet ids) {
+            if (ids == null) {
+                matches.clear();
+            } else {
+                matches.and(ids);
+            }
+            return this;
+        }
+    }
+}
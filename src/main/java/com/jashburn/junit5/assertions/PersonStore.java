@@ -0,0 +1,233 @@
+package com.jashburn.junit5.assertions;
+
+import static com.jashburn.junit5.assertions.PersonFields.NONE;
+import static com.jashburn.junit5.assertions.PersonFields.NO_DATE;
+import static com.jashburn.junit5.assertions.PersonFields.dateOfBirth;
+import static com.jashburn.junit5.assertions.PersonFields.epochDay;
+import static com.jashburn.junit5.assertions.PersonFields.gender;
+import static com.jashburn.junit5.assertions.PersonFields.genderCode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import com.jashburn.junit5.assertions.Person.Gender;
+
+/**
+ * Append-only, columnar store of people. Instead of a {@link Person} with two {@code String}s, an
+ * enum and a {@code LocalDate} each, every record takes 13 bytes spread over primitive columns:
+ * <ul>
+ * <li>first and last names as ids into a shared dictionary of distinct names</li>
+ * <li>the gender as a byte, its ordinal</li>
+ * <li>the date of birth as an {@code int} epoch day</li>
+ * </ul>
+ * Missing values are stored as {@code -1} (names and gender) or {@link Integer#MIN_VALUE} (date of
+ * birth).
+ * <p>
+ * Records are read through {@link PersonView}s, and the {@code count} scans run over the columns
+ * without materializing any objects. Not thread-safe.
+ */
+public final class PersonStore {
+
+    private final Map<String, Integer> nameIds = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+
+    private int[] firstNames;
+    private int[] lastNames;
+    private byte[] genders;
+    private int[] epochDays;
+    private int size;
+
+    public PersonStore() {
+        this(16);
+    }
+
+    public PersonStore(int initialCapacity) {
+        firstNames = new int[initialCapacity];
+        lastNames = new int[initialCapacity];
+        genders = new byte[initialCapacity];
+        epochDays = new int[initialCapacity];
+    }
+
+    /**
+     * @return the index of the new record
+     */
+    public int add(Person person) {
+        return add(person.getFirstName(), person.getLastName(), person.getGender(),
+                person.getDateOfBirth());
+    }
+
+    /**
+     * @return the index of the new record
+     * @throws IllegalArgumentException if {@code dateOfBirth} is too far from 1970 for its epoch
+     *         day to fit in an {@code int}
+     */
+    public int add(String firstName, String lastName, Gender gender, LocalDate dateOfBirth) {
+        int epochDay = epochDay(dateOfBirth);
+        if (size == firstNames.length) {
+            grow();
+        }
+        firstNames[size] = id(firstName);
+        lastNames[size] = id(lastName);
+        genders[size] = genderCode(gender);
+        epochDays[size] = epochDay;
+        return size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the number of distinct names in the dictionary
+     */
+    public int distinctNames() {
+        return names.size();
+    }
+
+    /**
+     * @return a view of the record at {@code index}, which stays valid for as long as the store
+     */
+    public PersonView get(int index) {
+        Objects.checkIndex(index, size);
+        Cursor cursor = new Cursor();
+        cursor.index = index;
+        return cursor;
+    }
+
+    /**
+     * Passes each record in turn to {@code action} through a single flyweight view, which must not
+     * be kept beyond the call.
+     */
+    public void forEach(Consumer<? super PersonView> action) {
+        Cursor cursor = new Cursor();
+        for (int i = 0; i < size; i++) {
+            cursor.index = i;
+            action.accept(cursor);
+        }
+    }
+
+    /**
+     * @param date any date: unlike the dates of records, it need not have an {@code int} epoch day
+     * @return the number of records of {@code gender} born strictly after {@code date}; records
+     *         without a date of birth never match
+     * @throws NullPointerException if {@code gender} or {@code date} is null
+     */
+    public int countBornAfter(Gender gender, LocalDate date) {
+        byte g = (byte) gender.ordinal();
+        long day = date.toEpochDay();
+        if (day >= Integer.MAX_VALUE) {
+            return 0;
+        }
+        // NO_DATE itself is never after the bound, so records without a date are left out
+        int after = (int) Math.max(day, NO_DATE);
+        byte[] genderColumn = genders;
+        int[] dayColumn = epochDays;
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            count += (genderColumn[i] == g ? 1 : 0) & (dayColumn[i] > after ? 1 : 0);
+        }
+        return count;
+    }
+
+    /**
+     * @param from any date: unlike the dates of records, the bounds need not have {@code int}
+     *        epoch days
+     * @return the number of records born between {@code from} and {@code to}, both inclusive;
+     *         records without a date of birth never match
+     * @throws NullPointerException if {@code from} or {@code to} is null
+     */
+    public int countBornBetween(LocalDate from, LocalDate to) {
+        // clamped to the days a record can have, which excludes NO_DATE
+        long clampedFrom = Math.max(from.toEpochDay(), NO_DATE + 1L);
+        long clampedTo = Math.min(to.toEpochDay(), Integer.MAX_VALUE);
+        if (clampedFrom > clampedTo) {
+            return 0;
+        }
+        int first = (int) clampedFrom;
+        int last = (int) clampedTo;
+        int[] dayColumn = epochDays;
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            int day = dayColumn[i];
+            count += (day >= first ? 1 : 0) & (day <= last ? 1 : 0);
+        }
+        return count;
+    }
+
+    /**
+     * @return the number of records with this last name; a single comparison of dictionary ids per
+     *         record
+     */
+    public int countByLastName(String lastName) {
+        Integer id = nameIds.get(lastName);
+        if (id == null) {
+            return 0;
+        }
+        int target = id;
+        int[] column = lastNames;
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            count += column[i] == target ? 1 : 0;
+        }
+        return count;
+    }
+
+    private int id(String name) {
+        if (name == null) {
+            return NONE;
+        }
+        Integer id = nameIds.get(name);
+        if (id == null) {
+            id = names.size();
+            nameIds.put(name, id);
+            names.add(name);
+        }
+        return id;
+    }
+
+    private void grow() {
+        int capacity = Math.max(16, firstNames.length * 2);
+        firstNames = Arrays.copyOf(firstNames, capacity);
+        lastNames = Arrays.copyOf(lastNames, capacity);
+        genders = Arrays.copyOf(genders, capacity);
+        epochDays = Arrays.copyOf(epochDays, capacity);
+    }
+
+    private final class Cursor implements PersonView {
+
+        private int index;
+
+        @Override
+        public String getFirstName() {
+            return name(firstNames[index]);
+        }
+
+        @Override
+        public String getLastName() {
+            return name(lastNames[index]);
+        }
+
+        @Override
+        public Gender getGender() {
+            return gender(genders[index]);
+        }
+
+        @Override
+        public LocalDate getDateOfBirth() {
+            return dateOfBirth(epochDays[index]);
+        }
+
+        private String name(int id) {
+            return id == NONE ? null : names.get(id);
+        }
+
+        @Override
+        public String toString() {
+            return "PersonView [firstName=" + getFirstName() + ", lastName=" + getLastName() + "]";
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.jashburn.junit5.assertions;
+
+import java.time.LocalDate;
+import com.jashburn.junit5.assertions.Person.Gender;
+
+/**
+ * Read-only view of a person's fields, backed by storage other than a {@link Person} instance, such
+ * as a column of a {@link PersonStore}. A view may be a flyweight that is moved from one record to
+ * the next, so it should not be kept beyond the callback or iteration step that handed it out;
+ * {@link #toPerson()} makes a copy that can be kept.
+ */
+public interface PersonView {
+
+    String getFirstName();
+
+    String getLastName();
+
+    Gender getGender();
+
+    LocalDate getDateOfBirth();
+
+    /**
+     * @return a new {@code Person} with the fields of this view
+     */
+    default Person toPerson() {
+        return new Person(getFirstName(), getLastName(), getGender(), getDateOfBirth());
+    }
+}
@@ -0,0 +1,323 @@
+package com.jashburn.junit5.assertions;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+
+/**
+ * Calculator that works on {@code long}s for as long as it can, and only promotes an operation
+ * whose result overflows a {@code long} to {@link BigInteger}, or whose result is not an integer to
+ * {@link BigDecimal}.
+ * <p>
+ * Operands may be any of {@code Byte}, {@code Short}, {@code Integer}, {@code Long},
+ * {@code BigInteger}, {@code Float}, {@code Double} or {@code BigDecimal}, and results are the
+ * narrowest of {@code Long}, {@code BigInteger} and {@code BigDecimal} that is exact:
+ * <ul>
+ * <li>two integers give a {@code Long} unless the result overflows, in which case a
+ * {@code BigInteger}; a {@code BigInteger} result that fits in a {@code long} is demoted back to a
+ * {@code Long}, so later operations return to the fast path</li>
+ * <li>a {@code Float}, {@code Double} or {@code BigDecimal} operand gives a {@code BigDecimal}</li>
+ * <li>division of integers that does not divide exactly gives a {@code BigDecimal}, rounded
+ * according to the {@link MathContext} the calculator was created with; so does any division with
+ * a {@code BigDecimal} operand</li>
+ * </ul>
+ * Division by zero throws an {@code ArithmeticException}. A {@code Float} or {@code Double}
+ * operand that is NaN or infinite has no exact value, and is rejected with an
+ * {@code IllegalArgumentException}. Instances are immutable.
+ * <p>
+ * Each of these operations returns a boxed {@code Number}. For a chain of operations on
+ * {@code long}s, such as a running total, an {@link Accumulator} keeps the result in a primitive
+ * {@code long} until it overflows, so that the common case allocates nothing.
+ */
+public class TieredCalculator {
+
+    private static final BigInteger LONG_MIN = BigInteger.valueOf(Long.MIN_VALUE);
+
+    private final MathContext divisionContext;
+
+    /**
+     * Divides with {@link MathContext#DECIMAL64}, i.e., 16 significant digits.
+     */
+    public TieredCalculator() {
+        this(MathContext.DECIMAL64);
+    }
+
+    public TieredCalculator(MathContext divisionContext) {
+        this.divisionContext = divisionContext;
+    }
+
+    public Number add(long a, long b) {
+        try {
+            return Math.addExact(a, b);
+        } catch (ArithmeticException e) {
+            return BigInteger.valueOf(a).add(BigInteger.valueOf(b));
+        }
+    }
+
+    public Number subtract(long a, long b) {
+        try {
+            return Math.subtractExact(a, b);
+        } catch (ArithmeticException e) {
+            return BigInteger.valueOf(a).subtract(BigInteger.valueOf(b));
+        }
+    }
+
+    public Number multiply(long a, long b) {
+        try {
+            return Math.multiplyExact(a, b);
+        } catch (ArithmeticException e) {
+            return BigInteger.valueOf(a).multiply(BigInteger.valueOf(b));
+        }
+    }
+
+    public Number divide(long a, long b) {
+        if (b == 0) {
+            throw new ArithmeticException("/ by zero");
+        }
+        if (a % b != 0) {
+            return new BigDecimal(a).divide(new BigDecimal(b), divisionContext);
+        }
+        if (a == Long.MIN_VALUE && b == -1) {
+            return LONG_MIN.negate();
+        }
+        return a / b;
+    }
+
+    public Number add(Number a, Number b) {
+        switch (Tier.of(a, b)) {
+            case LONG:
+                return add(a.longValue(), b.longValue());
+            case BIG_INTEGER:
+                return demote(toBigInteger(a).add(toBigInteger(b)));
+            default:
+                return toBigDecimal(a).add(toBigDecimal(b));
+        }
+    }
+
+    public Number subtract(Number a, Number b) {
+        switch (Tier.of(a, b)) {
+            case LONG:
+                return subtract(a.longValue(), b.longValue());
+            case BIG_INTEGER:
+                return demote(toBigInteger(a).subtract(toBigInteger(b)));
+            default:
+                return toBigDecimal(a).subtract(toBigDecimal(b));
+        }
+    }
+
+    public Number multiply(Number a, Number b) {
+        switch (Tier.of(a, b)) {
+            case LONG:
+                return multiply(a.longValue(), b.longValue());
+            case BIG_INTEGER:
+                return demote(toBigInteger(a).multiply(toBigInteger(b)));
+            default:
+                return toBigDecimal(a).multiply(toBigDecimal(b));
+        }
+    }
+
+    public Number divide(Number a, Number b) {
+        Tier tier = Tier.of(a, b);
+        if (tier == Tier.LONG) {
+            return divide(a.longValue(), b.longValue());
+        }
+        if (tier == Tier.BIG_INTEGER) {
+            BigInteger[] quotientAndRemainder =
+                    toBigInteger(a).divideAndRemainder(toBigInteger(b));
+            if (quotientAndRemainder[1].signum() == 0) {
+                return demote(quotientAndRemainder[0]);
+            }
+        }
+        return toBigDecimal(a).divide(toBigDecimal(b), divisionContext);
+    }
+
+    /**
+     * @return an accumulator holding {@code initial}, which divides with this calculator's
+     *         {@code MathContext}
+     */
+    public Accumulator accumulator(long initial) {
+        return new Accumulator(this, initial);
+    }
+
+    private static Number demote(BigInteger value) {
+        return value.bitLength() < Long.SIZE ? (Number) value.longValue() : value;
+    }
+
+    private static BigInteger toBigInteger(Number value) {
+        if (value instanceof BigInteger) {
+            return (BigInteger) value;
+        }
+        return BigInteger.valueOf(value.longValue());
+    }
+
+    private static BigDecimal toBigDecimal(Number value) {
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        }
+        if (value instanceof BigInteger) {
+            return new BigDecimal((BigInteger) value);
+        }
+        if (value instanceof Double || value instanceof Float) {
+            // via the shortest decimal representation, so 0.1 is 0.1 rather than its binary value
+            return BigDecimal.valueOf(value.doubleValue());
+        }
+        return BigDecimal.valueOf(value.longValue());
+    }
+
+    /**
+     * Mutable result of a chain of operations with {@code long} operands. While the result fits in
+     * a {@code long} it is kept in a primitive field, and each operation checks for overflow with
+     * arithmetic rather than by catching an exception. Only when a result overflows, or a division
+     * is inexact, is it promoted as by the {@code Number} operations of the calculator; it is
+     * demoted back to a {@code long} as soon as a later result fits. Not thread-safe.
+     */
+    public static final class Accumulator {
+
+        private final TieredCalculator calculator;
+        private long value;
+        // the result when it does not fit in a long, else null
+        private Number promoted;
+
+        private Accumulator(TieredCalculator calculator, long initial) {
+            this.calculator = calculator;
+            this.value = initial;
+        }
+
+        public Accumulator add(long operand) {
+            if (promoted == null) {
+                long result = value + operand;
+                // overflow iff both operands have the sign opposite to the result's
+                if (((value ^ result) & (operand ^ result)) >= 0) {
+                    value = result;
+                    return this;
+                }
+            }
+            return set(calculator.add(toNumber(), operand));
+        }
+
+        public Accumulator subtract(long operand) {
+            if (promoted == null) {
+                long result = value - operand;
+                // overflow iff the operands have different signs and the result's is not value's
+                if (((value ^ operand) & (value ^ result)) >= 0) {
+                    value = result;
+                    return this;
+                }
+            }
+            return set(calculator.subtract(toNumber(), operand));
+        }
+
+        public Accumulator multiply(long operand) {
+            if (promoted == null) {
+                long high = Math.multiplyHigh(value, operand);
+                long result = value * operand;
+                // the product fits iff its high word is just the sign extension of the low word
+                if (high == result >> (Long.SIZE - 1)) {
+                    value = result;
+                    return this;
+                }
+            }
+            return set(calculator.multiply(toNumber(), operand));
+        }
+
+        /**
+         * Adds {@code a * b}, as {@code add(calculator.multiply(a, b))} would, without boxing the
+         * product unless it overflows.
+         */
+        public Accumulator addProduct(long a, long b) {
+            if (promoted == null) {
+                long high = Math.multiplyHigh(a, b);
+                long product = a * b;
+                long result = value + product;
+                if (high == product >> (Long.SIZE - 1)
+                        && ((value ^ result) & (product ^ result)) >= 0) {
+                    value = result;
+                    return this;
+                }
+            }
+            return set(calculator.add(toNumber(), calculator.multiply(a, b)));
+        }
+
+        /**
+         * @throws ArithmeticException if {@code operand} is zero
+         */
+        public Accumulator divide(long operand) {
+            if (promoted == null && operand != 0 && value % operand == 0
+                    && (value != Long.MIN_VALUE || operand != -1)) {
+                value /= operand;
+                return this;
+            }
+            return set(calculator.divide(toNumber(), operand));
+        }
+
+        /**
+         * @return whether the result fits in a {@code long}, i.e., {@link #longValue()} is exact
+         */
+        public boolean isLong() {
+            return promoted == null;
+        }
+
+        /**
+         * @throws ArithmeticException if the result does not fit in a {@code long}
+         */
+        public long longValue() {
+            if (promoted != null) {
+                throw new ArithmeticException("Result does not fit in a long: " + promoted);
+            }
+            return value;
+        }
+
+        /**
+         * @return the result, as the {@code Number} operations of the calculator would return it
+         */
+        public Number toNumber() {
+            return promoted == null ? (Number) value : promoted;
+        }
+
+        private Accumulator set(Number result) {
+            if (result instanceof Long) {
+                value = result.longValue();
+                promoted = null;
+            } else {
+                promoted = result;
+            }
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(toNumber());
+        }
+    }
+
+    private enum Tier {
+        LONG, BIG_INTEGER, BIG_DECIMAL;
+
+        static Tier of(Number a, Number b) {
+            Tier tierOfA = of(a);
+            Tier tierOfB = of(b);
+            return tierOfA.compareTo(tierOfB) >= 0 ? tierOfA : tierOfB;
+        }
+
+        static Tier of(Number value) {
+            if (value instanceof Long || value instanceof Integer || value instanceof Short
+                    || value instanceof Byte) {
+                return LONG;
+            }
+            if (value instanceof BigInteger) {
+                return BIG_INTEGER;
+            }
+            if (value instanceof Double || value instanceof Float) {
+                if (!Double.isFinite(value.doubleValue())) {
+                    throw new IllegalArgumentException("Not a finite number: " + value);
+                }
+                return BIG_DECIMAL;
+            }
+            if (value instanceof BigDecimal) {
+                return BIG_DECIMAL;
+            }
+            throw new IllegalArgumentException(
+                    "Unsupported number type: " + value.getClass().getName());
+        }
+    }
+}
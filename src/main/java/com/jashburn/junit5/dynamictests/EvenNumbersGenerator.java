@@ -26,4 +26,26 @@ class EvenNumbersGenerator {
 
         return iterator;
     }
+
+    /**
+     * @return the even numbers from 0 up to the same limit as {@link #generator()}, without boxing
+     */
+    static Progression evens() {
+        return evens(0, EXCL_LIMIT);
+    }
+
+    /**
+     * @return the even numbers {@code >= from} and {@code < to}
+     */
+    static Progression evens(long from, long to) {
+        return Progression.of(from + (from & 1), to, 2);
+    }
+
+    /**
+     * @return the progression {@code start, start + step, ...} of the values below
+     *         {@code endExclusive}
+     */
+    static Progression range(long start, long endExclusive, long step) {
+        return Progression.of(start, endExclusive, step);
+    }
 }
@@ -0,0 +1,271 @@
+package com.jashburn.junit5.dynamictests;
+
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Arithmetic progression {@code start, start + step, start + 2 * step, ...} of the values below an
+ * exclusive end. Values are produced as primitives, so iterating or streaming does not box.
+ * <p>
+ * Element {@code i} is computed as {@code start + i * step}, so any index range can be visited
+ * without stepping through the elements before it.
+ */
+final class Progression {
+
+    private static final int CHARACTERISTICS = Spliterator.SIZED | Spliterator.SUBSIZED
+            | Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT
+            | Spliterator.IMMUTABLE | Spliterator.NONNULL;
+
+    private final long start;
+    private final long step;
+    private final long size;
+
+    private Progression(long start, long endExclusive, long step) {
+        if (step <= 0) {
+            throw new IllegalArgumentException("step must be positive: " + step);
+        }
+        this.start = start;
+        this.step = step;
+        this.size = size(start, endExclusive, step);
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code step} is not positive, or if there would be more
+     *         than {@code Long.MAX_VALUE} elements
+     */
+    static Progression of(long start, long endExclusive, long step) {
+        return new Progression(start, endExclusive, step);
+    }
+
+    private static long size(long start, long endExclusive, long step) {
+        if (endExclusive <= start) {
+            return 0;
+        }
+        // the distance can exceed Long.MAX_VALUE, but always fits in an unsigned long
+        long size = Long.divideUnsigned(endExclusive - start - 1, step) + 1;
+        if (size <= 0) {
+            throw new IllegalArgumentException("Too many elements from " + start + " to "
+                    + endExclusive + " with step " + step);
+        }
+        return size;
+    }
+
+    long size() {
+        return size;
+    }
+
+    long first() {
+        return start;
+    }
+
+    long step() {
+        return step;
+    }
+
+    long get(long index) {
+        return start + index * step;
+    }
+
+    PrimitiveIterator.OfLong longIterator() {
+        return new PrimitiveIterator.OfLong() {
+
+            long index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public long nextLong() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                return get(index++);
+            }
+        };
+    }
+
+    /**
+     * @throws IllegalStateException if the elements do not all fit in an {@code int}
+     */
+    PrimitiveIterator.OfInt intIterator() {
+        checkIntRange();
+        return new PrimitiveIterator.OfInt() {
+
+            long index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public int nextInt() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                return (int) get(index++);
+            }
+        };
+    }
+
+    /**
+     * @return a spliterator that splits the remaining indices in half, so that a parallel stream
+     *         spreads the elements evenly over the fork-join pool
+     * @throws IllegalStateException if the elements do not all fit in an {@code int}
+     */
+    Spliterator.OfInt intSpliterator() {
+        checkIntRange();
+        return new IntSpliterator(0, size);
+    }
+
+    /**
+     * @throws IllegalStateException if the elements do not all fit in an {@code int}
+     */
+    IntStream intStream() {
+        return StreamSupport.intStream(intSpliterator(), false);
+    }
+
+    /**
+     * @return a {@code SIZED} and {@code SUBSIZED} spliterator that splits the remaining indices in
+     *         half in constant time, however many elements there are
+     */
+    Spliterator.OfLong longSpliterator() {
+        return new LongSpliterator(0, size);
+    }
+
+    /**
+     * @param parallel whether the stream should be split across the fork-join pool
+     */
+    LongStream longStream(boolean parallel) {
+        return StreamSupport.longStream(longSpliterator(), parallel);
+    }
+
+    private void checkIntRange() {
+        if (size > 0 && (start < Integer.MIN_VALUE || get(size - 1) > Integer.MAX_VALUE)) {
+            throw new IllegalStateException("Elements do not fit in an int: " + this);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Progression [start=" + start + ", step=" + step + ", size=" + size + "]";
+    }
+
+    /**
+     * The index range of a spliterator over the progression, halved by {@link #split()}.
+     */
+    private abstract static class IndexSpliterator<T> implements Spliterator<T> {
+
+        long index;
+        final long fence;
+
+        IndexSpliterator(long index, long fence) {
+            this.index = index;
+            this.fence = fence;
+        }
+
+        /**
+         * Gives the first half of the remaining range to a new spliterator, which is to cover the
+         * indices from the returned one up to the new {@link #index}.
+         *
+         * @return the start of the split-off range, or -1 if there is too little left to split
+         */
+        final long split() {
+            long from = index;
+            long mid = from + ((fence - from) >>> 1);
+            if (mid <= from) {
+                return -1;
+            }
+            index = mid;
+            return from;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return CHARACTERISTICS;
+        }
+
+        @Override
+        public Comparator<? super T> getComparator() {
+            return null;
+        }
+    }
+
+    private final class IntSpliterator extends IndexSpliterator<Integer>
+            implements Spliterator.OfInt {
+
+        IntSpliterator(long index, long fence) {
+            super(index, fence);
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if (index >= fence) {
+                return false;
+            }
+            action.accept((int) get(index++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            long i = index;
+            index = fence;
+            for (; i < fence; i++) {
+                action.accept((int) get(i));
+            }
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            long from = split();
+            return from < 0 ? null : new IntSpliterator(from, index);
+        }
+    }
+
+    private final class LongSpliterator extends IndexSpliterator<Long>
+            implements Spliterator.OfLong {
+
+        LongSpliterator(long index, long fence) {
+            super(index, fence);
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(get(index++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            long i = index;
+            index = fence;
+            for (; i < fence; i++) {
+                action.accept(get(i));
+            }
+        }
+
+        @Override
+        public Spliterator.OfLong trySplit() {
+            long from = split();
+            return from < 0 ? null : new LongSpliterator(from, index);
+        }
+    }
+}
@@ -0,0 +1,383 @@
+package com.jashburn.junit5.parameterizedtests;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Catalogue of book titles, with case-insensitive exact and prefix search, that hands out a single
+ * canonical {@link Book} per title.
+ * <p>
+ * Canonical books are kept in a concurrent map, but only once they have been asked for, and only
+ * weakly: a book nobody refers to any more is dropped, and the next request for its title creates
+ * a new one. The
+ * catalogued titles themselves are kept in a compact index: all titles concatenated into one
+ * array, sorted case-insensitively, with an {@code int} offset per title. For Latin-1 titles that
+ * is a byte per character plus 4 per title, against the hundred or so bytes per entry of a
+ * {@code HashMap<String, Book>}. Searches binary search the index.
+ * <p>
+ * Titles added to the catalogue are batched. The next search sorts the batch and merges it into a
+ * new index, copying the existing titles across in runs rather than re-sorting them. Safe for use
+ * by multiple threads: searches read an immutable snapshot of the index.
+ */
+class BookCatalogue {
+
+    /** Same order as {@code String.CASE_INSENSITIVE_ORDER}, one {@code char} at a time. */
+    static final Comparator<String> TITLE_ORDER = BookCatalogue::compareTitles;
+
+    /** {@link #TITLE_ORDER}, then {@link String#compareTo(String)} between titles equal in it. */
+    private static final Comparator<String> INDEX_ORDER =
+            TITLE_ORDER.thenComparing(Comparator.naturalOrder());
+
+    private final ConcurrentMap<String, BookReference> books = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Book> collected = new ReferenceQueue<>();
+    private final List<String> pending = new ArrayList<>();
+    private volatile boolean dirty;
+    private volatile TitleIndex index = TitleIndex.EMPTY;
+
+    /**
+     * @return the canonical book with exactly this title, whether or not it is catalogued
+     */
+    Book book(String title) {
+        expungeCollectedBooks();
+        while (true) {
+            BookReference reference = books.get(title);
+            Book book = reference != null ? reference.get() : null;
+            if (book != null) {
+                return book;
+            }
+            book = Book.fromTitle(title);
+            BookReference replacement = new BookReference(title, book, collected);
+            if (reference == null ? books.putIfAbsent(title, replacement) == null
+                    : books.replace(title, reference, replacement)) {
+                return book;
+            }
+        }
+    }
+
+    void add(String title) {
+        synchronized (pending) {
+            pending.add(title);
+            dirty = true;
+        }
+    }
+
+    void addAll(Collection<String> titles) {
+        synchronized (pending) {
+            pending.addAll(titles);
+            dirty = true;
+        }
+    }
+
+    /**
+     * @return the number of distinct catalogued titles
+     */
+    int size() {
+        return index().size();
+    }
+
+    /**
+     * @return the catalogued book whose title equals {@code title}, ignoring case; if more than one
+     *         does, the first in {@link String#compareTo(String)} order
+     */
+    Optional<Book> find(String title) {
+        TitleIndex snapshot = index();
+        int i = snapshot.lowerBound(title);
+        if (i < snapshot.size() && snapshot.compareTo(i, title) == 0) {
+            return Optional.of(book(snapshot.title(i)));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @return up to {@code limit} catalogued books whose titles start with {@code prefix}, ignoring
+     *         case, in title order
+     */
+    List<Book> startingWith(String prefix, int limit) {
+        TitleIndex snapshot = index();
+        List<Book> found = new ArrayList<>();
+        for (int i = snapshot.lowerBound(prefix); i < snapshot.size() && found.size() < limit
+                && snapshot.startsWith(i, prefix); i++) {
+            found.add(book(snapshot.title(i)));
+        }
+        return found;
+    }
+
+    private TitleIndex index() {
+        if (!dirty) {
+            return index;
+        }
+        synchronized (pending) {
+            if (!pending.isEmpty()) {
+                String[] batch = pending.toArray(new String[0]);
+                Arrays.sort(batch, INDEX_ORDER);
+                int distinct = 0;
+                for (int i = 0; i < batch.length; i++) {
+                    if (i == 0 || !batch[i].equals(batch[distinct - 1])) {
+                        batch[distinct++] = batch[i];
+                    }
+                }
+                pending.clear();
+                index = index.merge(batch, distinct);
+                dirty = false;
+            }
+            return index;
+        }
+    }
+
+    private void expungeCollectedBooks() {
+        BookReference reference;
+        while ((reference = (BookReference) collected.poll()) != null) {
+            books.remove(reference.title, reference);
+        }
+    }
+
+    private static int compareTitles(String a, String b) {
+        int length = Math.min(a.length(), b.length());
+        for (int i = 0; i < length; i++) {
+            int difference = fold(a.charAt(i)) - fold(b.charAt(i));
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return a.length() - b.length();
+    }
+
+    private static char fold(char c) {
+        if (c < 0x80) {
+            return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+        }
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    /**
+     * Weak reference to a canonical book, remembering its title so that the map entry can be
+     * removed once the book has been collected.
+     */
+    private static final class BookReference extends WeakReference<Book> {
+
+        private final String title;
+
+        BookReference(String title, Book book, ReferenceQueue<Book> queue) {
+            super(book, queue);
+            this.title = title;
+        }
+    }
+
+    /**
+     * Immutable, sorted and deduplicated titles, stored back to back in a single array: a
+     * {@code byte[]} if every title is Latin-1, as most are, or else a {@code char[]}.
+     */
+    private static final class TitleIndex {
+
+        private final byte[] latin1;
+        private final char[] chars;
+        /** Title {@code i} runs from character {@code offsets[i]} up to {@code offsets[i + 1]}. */
+        private final int[] offsets;
+
+        static final TitleIndex EMPTY = new TitleIndex(new byte[0], null, new int[1]);
+
+        private TitleIndex(byte[] latin1, char[] chars, int[] offsets) {
+            this.latin1 = latin1;
+            this.chars = chars;
+            this.offsets = offsets;
+        }
+
+        /**
+         * Merges the first {@code count} titles of {@code batch}, which are sorted in
+         * {@link #INDEX_ORDER} and distinct, into a new index. Titles already in this index are
+         * skipped. Between two batch titles, the existing titles are copied across as one run of
+         * characters, without being turned back into strings.
+         */
+        TitleIndex merge(String[] batch, int count) {
+            boolean allLatin1 = latin1 != null;
+            long capacity = offsets[size()];
+            for (int i = 0; i < count; i++) {
+                allLatin1 &= isLatin1(batch[i]);
+                capacity += batch[i].length();
+            }
+            int length = Math.toIntExact(capacity);
+            byte[] mergedLatin1 = allLatin1 ? new byte[length] : null;
+            char[] mergedChars = allLatin1 ? null : new char[length];
+            int[] mergedOffsets = new int[size() + count + 1];
+
+            int titles = 0;
+            int next = 0;
+            for (int i = 0; i < count; i++) {
+                String title = batch[i];
+                int end = lowerBound(title, next);
+                titles = copyRun(next, end, mergedLatin1, mergedChars, mergedOffsets, titles);
+                next = end;
+                if (next < size() && compareExactly(next, title) == 0) {
+                    continue;
+                }
+                int start = mergedOffsets[titles];
+                if (allLatin1) {
+                    byte[] bytes = title.getBytes(StandardCharsets.ISO_8859_1);
+                    System.arraycopy(bytes, 0, mergedLatin1, start, bytes.length);
+                } else {
+                    title.getChars(0, title.length(), mergedChars, start);
+                }
+                mergedOffsets[++titles] = start + title.length();
+            }
+            titles = copyRun(next, size(), mergedLatin1, mergedChars, mergedOffsets, titles);
+
+            int used = mergedOffsets[titles];
+            if (titles + 1 < mergedOffsets.length) {
+                // some of the batch was already catalogued
+                mergedOffsets = Arrays.copyOf(mergedOffsets, titles + 1);
+                if (allLatin1) {
+                    mergedLatin1 = Arrays.copyOf(mergedLatin1, used);
+                } else {
+                    mergedChars = Arrays.copyOf(mergedChars, used);
+                }
+            }
+            return new TitleIndex(mergedLatin1, mergedChars, mergedOffsets);
+        }
+
+        /**
+         * Appends titles {@code from} (inclusive) to {@code to} (exclusive) after the first
+         * {@code titles} titles of the merged arrays.
+         *
+         * @return the number of titles in the merged arrays afterwards
+         */
+        private int copyRun(int from, int to, byte[] mergedLatin1, char[] mergedChars,
+                int[] mergedOffsets, int titles) {
+            if (from == to) {
+                return titles;
+            }
+            int source = offsets[from];
+            int length = offsets[to] - source;
+            int target = mergedOffsets[titles];
+            if (mergedLatin1 != null) {
+                System.arraycopy(latin1, source, mergedLatin1, target, length);
+            } else if (chars != null) {
+                System.arraycopy(chars, source, mergedChars, target, length);
+            } else {
+                // the first title beyond Latin-1: widen the existing bytes
+                for (int i = 0; i < length; i++) {
+                    mergedChars[target + i] = (char) (latin1[source + i] & 0xFF);
+                }
+            }
+            for (int i = from; i < to; i++) {
+                mergedOffsets[++titles] = offsets[i + 1] - source + target;
+            }
+            return titles;
+        }
+
+        int size() {
+            return offsets.length - 1;
+        }
+
+        String title(int i) {
+            int length = offsets[i + 1] - offsets[i];
+            return latin1 != null
+                    ? new String(latin1, offsets[i], length, StandardCharsets.ISO_8859_1)
+                    : new String(chars, offsets[i], length);
+        }
+
+        /**
+         * @return the first index whose title is not before {@code key}, ignoring case
+         */
+        int lowerBound(String key) {
+            int low = 0;
+            int high = size();
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (compareTo(middle, key) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * @return the first index from {@code from} on whose title is not before {@code key} in
+         *         {@link #INDEX_ORDER}
+         */
+        private int lowerBound(String key, int from) {
+            int low = from;
+            int high = size();
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (compareExactly(middle, key) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Compares title {@code i} with {@code key} in {@link #TITLE_ORDER}.
+         */
+        int compareTo(int i, String key) {
+            int start = offsets[i];
+            int length = offsets[i + 1] - start;
+            int common = Math.min(length, key.length());
+            for (int j = 0; j < common; j++) {
+                int difference = fold(charAt(start + j)) - fold(key.charAt(j));
+                if (difference != 0) {
+                    return difference;
+                }
+            }
+            return length - key.length();
+        }
+
+        /**
+         * Compares title {@code i} with {@code key} in {@link #INDEX_ORDER}.
+         */
+        private int compareExactly(int i, String key) {
+            int difference = compareTo(i, key);
+            if (difference != 0) {
+                return difference;
+            }
+            // same length, as the titles are equal ignoring case
+            int start = offsets[i];
+            for (int j = 0; j < key.length(); j++) {
+                difference = charAt(start + j) - key.charAt(j);
+                if (difference != 0) {
+                    return difference;
+                }
+            }
+            return 0;
+        }
+
+        boolean startsWith(int i, String prefix) {
+            int start = offsets[i];
+            if (offsets[i + 1] - start < prefix.length()) {
+                return false;
+            }
+            for (int j = 0; j < prefix.length(); j++) {
+                if (fold(charAt(start + j)) != fold(prefix.charAt(j))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private char charAt(int position) {
+            return latin1 != null ? (char) (latin1[position] & 0xFF) : chars[position];
+        }
+
+        private static boolean isLatin1(String title) {
+            for (int i = 0; i < title.length(); i++) {
+                if (title.charAt(i) > 0xFF) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
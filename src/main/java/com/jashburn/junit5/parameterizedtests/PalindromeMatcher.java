@@ -0,0 +1,163 @@
+package com.jashburn.junit5.parameterizedtests;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Unicode-aware palindrome check. Unlike {@link StringUtils#isPalindrome(String)}, which compares
+ * UTF-16 code units, a {@code PalindromeMatcher} compares code points (or grapheme clusters), so
+ * supplementary characters and combining marks are handled correctly.
+ * <p>
+ * The candidate is scanned once from both ends; ignorable characters are skipped and case is
+ * folded per code point, so no normalised or lowercased copy of the candidate is created.
+ * Instances are immutable and can be shared between threads.
+ */
+public final class PalindromeMatcher {
+
+    public enum Option {
+        /** Compare code points after simple case folding, as {@code String.equalsIgnoreCase}. */
+        IGNORE_CASE,
+        /** Skip everything that is not a letter or a digit, e.g., "A man, a plan...". */
+        IGNORE_PUNCTUATION_AND_WHITESPACE,
+        /**
+         * Compare grapheme clusters instead of single code points: a base character followed by
+         * combining marks, or an emoji sequence joined by ZERO WIDTH JOINER, is compared as a unit.
+         */
+        GRAPHEME_CLUSTERS
+    }
+
+    private static final int ZERO_WIDTH_JOINER = 0x200D;
+
+    private final boolean ignoreCase;
+    private final boolean ignorePunctuation;
+    private final boolean graphemes;
+
+    private PalindromeMatcher(Set<Option> options) {
+        this.ignoreCase = options.contains(Option.IGNORE_CASE);
+        this.ignorePunctuation = options.contains(Option.IGNORE_PUNCTUATION_AND_WHITESPACE);
+        this.graphemes = options.contains(Option.GRAPHEME_CLUSTERS);
+    }
+
+    public static PalindromeMatcher of(Option... options) {
+        Set<Option> set = EnumSet.noneOf(Option.class);
+        for (Option option : options) {
+            set.add(option);
+        }
+        return new PalindromeMatcher(set);
+    }
+
+    /**
+     * @return {@code true} if {@code candidate} reads the same backwards; {@code null} is a
+     *         palindrome, as with {@link StringUtils#isPalindrome(String)}
+     */
+    public boolean matches(CharSequence candidate) {
+        if (candidate == null)
+            return true;
+
+        int front = 0;
+        int back = candidate.length();
+        while (true) {
+            int frontEnd;
+            int backStart;
+            // skip ignorable units at both ends
+            while (true) {
+                if (front >= back) {
+                    return true;
+                }
+                frontEnd = unitEnd(candidate, front, back);
+                if (!isIgnorable(Character.codePointAt(candidate, front))) {
+                    break;
+                }
+                front = frontEnd;
+            }
+            while (true) {
+                backStart = unitStart(candidate, front, back);
+                if (!isIgnorable(Character.codePointAt(candidate, backStart))) {
+                    break;
+                }
+                back = backStart;
+            }
+            if (backStart <= front) {
+                // a single unit left in the middle
+                return true;
+            }
+            if (!unitsEqual(candidate, front, frontEnd, backStart, back)) {
+                return false;
+            }
+            front = frontEnd;
+            back = backStart;
+        }
+    }
+
+    /**
+     * @return the end of the unit (code point or cluster) that starts at {@code start}
+     */
+    private int unitEnd(CharSequence candidate, int start, int limit) {
+        int end = start + Character.charCount(Character.codePointAt(candidate, start));
+        if (!graphemes) {
+            return end;
+        }
+        while (end < limit) {
+            int next = Character.codePointAt(candidate, end);
+            if (!isExtending(next) && Character.codePointBefore(candidate, end) != ZERO_WIDTH_JOINER) {
+                break;
+            }
+            end += Character.charCount(next);
+        }
+        return end;
+    }
+
+    /**
+     * @return the start of the unit (code point or cluster) that ends at {@code end}
+     */
+    private int unitStart(CharSequence candidate, int limit, int end) {
+        int start = end - Character.charCount(Character.codePointBefore(candidate, end));
+        if (!graphemes) {
+            return start;
+        }
+        while (start > limit) {
+            int current = Character.codePointAt(candidate, start);
+            int previous = Character.codePointBefore(candidate, start);
+            if (!isExtending(current) && previous != ZERO_WIDTH_JOINER) {
+                break;
+            }
+            start -= Character.charCount(previous);
+        }
+        return start;
+    }
+
+    private boolean unitsEqual(CharSequence candidate, int frontStart, int frontEnd, int backStart,
+            int backEnd) {
+        int i = frontStart;
+        int j = backStart;
+        while (i < frontEnd && j < backEnd) {
+            int a = Character.codePointAt(candidate, i);
+            int b = Character.codePointAt(candidate, j);
+            if (a != b && !(ignoreCase && fold(a) == fold(b))) {
+                return false;
+            }
+            i += Character.charCount(a);
+            j += Character.charCount(b);
+        }
+        return i == frontEnd && j == backEnd;
+    }
+
+    private boolean isIgnorable(int codePoint) {
+        return ignorePunctuation && !Character.isLetterOrDigit(codePoint);
+    }
+
+    private static boolean isExtending(int codePoint) {
+        switch (Character.getType(codePoint)) {
+            case Character.NON_SPACING_MARK:
+            case Character.ENCLOSING_MARK:
+            case Character.COMBINING_SPACING_MARK:
+                return true;
+            default:
+                return codePoint == ZERO_WIDTH_JOINER;
+        }
+    }
+
+    private static int fold(int codePoint) {
+        return Character.toLowerCase(Character.toUpperCase(codePoint));
+    }
+}
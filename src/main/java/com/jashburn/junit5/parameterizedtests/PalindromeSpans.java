@@ -0,0 +1,119 @@
+package com.jashburn.junit5.parameterizedtests;
+
+/**
+ * Cursor over the maximal palindromic spans of a text, found in O(n) time with Manacher's
+ * algorithm. For every possible centre (each character, and each gap between two characters) the
+ * longest palindrome around that centre is a maximal span; spans shorter than the requested
+ * minimum length are skipped.
+ * <p>
+ * The radii are kept in two {@code int} arrays of the text's length, and spans are reported
+ * through {@link #start()} and {@link #end()} rather than as objects, so iterating over a
+ * multi-megabyte text does not allocate per span:
+ *
+ * <pre>
+ * PalindromeSpans spans = StringUtils.palindromeSpans(text, 5);
+ * while (spans.next()) {
+ *     process(spans.start(), spans.end());
+ * }
+ * </pre>
+ *
+ * Spans are reported in order of their centre. A cursor is not thread-safe.
+ */
+public final class PalindromeSpans {
+
+    private final int minLength;
+    /** Half-length (rounded up) of the odd-length palindrome centred on each character. */
+    private final int[] oddRadii;
+    /** Half-length of the even-length palindrome centred just before each character. */
+    private final int[] evenRadii;
+
+    /** Centre index: {@code 2i} is the gap before character {@code i}, {@code 2i + 1} is it. */
+    private int centre = -1;
+    private int start;
+    private int end;
+
+    private PalindromeSpans(CharSequence text, int minLength) {
+        this.minLength = Math.max(1, minLength);
+        this.oddRadii = oddRadii(text);
+        this.evenRadii = evenRadii(text);
+    }
+
+    /**
+     * @param minLength the minimum length, in {@code char}s, of the spans to report
+     */
+    public static PalindromeSpans of(CharSequence text, int minLength) {
+        return new PalindromeSpans(text, minLength);
+    }
+
+    /**
+     * Advances to the next span.
+     *
+     * @return {@code false} if there are no more spans
+     */
+    public boolean next() {
+        int lastCentre = 2 * oddRadii.length;
+        while (++centre < lastCentre) {
+            int i = centre >> 1;
+            if ((centre & 1) == 0) {
+                start = i - evenRadii[i];
+                end = i + evenRadii[i];
+            } else {
+                start = i - oddRadii[i] + 1;
+                end = i + oddRadii[i];
+            }
+            if (end - start >= minLength) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** @return the index of the first character of the current span */
+    public int start() {
+        return start;
+    }
+
+    /** @return the index after the last character of the current span */
+    public int end() {
+        return end;
+    }
+
+    /** @return the length of the current span */
+    public int length() {
+        return end - start;
+    }
+
+    private static int[] oddRadii(CharSequence text) {
+        int n = text.length();
+        int[] radii = new int[n];
+        for (int i = 0, left = 0, right = -1; i < n; i++) {
+            int k = (i > right) ? 1 : Math.min(radii[left + right - i], right - i + 1);
+            while (i - k >= 0 && i + k < n && text.charAt(i - k) == text.charAt(i + k)) {
+                k++;
+            }
+            radii[i] = k--;
+            if (i + k > right) {
+                left = i - k;
+                right = i + k;
+            }
+        }
+        return radii;
+    }
+
+    private static int[] evenRadii(CharSequence text) {
+        int n = text.length();
+        int[] radii = new int[n];
+        for (int i = 0, left = 0, right = -1; i < n; i++) {
+            int k = (i > right) ? 0 : Math.min(radii[left + right - i + 1], right - i + 1);
+            while (i - k - 1 >= 0 && i + k < n && text.charAt(i - k - 1) == text.charAt(i + k)) {
+                k++;
+            }
+            radii[i] = k--;
+            if (i + k > right) {
+                left = i - k - 1;
+                right = i + k;
+            }
+        }
+        return radii;
+    }
+}
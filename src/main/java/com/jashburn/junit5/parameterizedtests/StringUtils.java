@@ -9,13 +9,36 @@
 
 package com.jashburn.junit5.parameterizedtests;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.stream.Stream;
+
 /**
  * Based on
  * https://github.com/junit-team/junit5/blob/master/documentation/src/main/java/example/util/StringUtils.java
+ * <p>
+ * Every check treats a {@code null} candidate as a palindrome, as {@link #isPalindrome(String)}
+ * always has. The single-argument overloads only differ in {@code String} and
+ * {@code CharSequence}, so {@code isPalindrome(null)} still resolves to the {@code String} one.
  */
 public class StringUtils {
 
+    /** Reads 8 bytes of a {@code byte[]} at a time, independent of the platform's byte order. */
+    private static final VarHandle LONG_VIEW =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
     public static boolean isPalindrome(String candidate) {
+        return isPalindrome((CharSequence) candidate);
+    }
+
+    /**
+     * Checks a {@code CharSequence} in place, so that a slice of a larger buffer (e.g., a
+     * {@code CharBuffer} or a {@code StringBuilder}) does not have to be copied into a
+     * {@code String} first.
+     */
+    public static boolean isPalindrome(CharSequence candidate) {
         if (candidate == null)
             return true;
 
@@ -28,4 +51,227 @@ public class StringUtils {
         return true;
     }
 
+    /**
+     * Checks the {@code length} characters of {@code candidate} starting at {@code offset}.
+     */
+    public static boolean isPalindrome(char[] candidate, int offset, int length) {
+        if (candidate == null)
+            return true;
+
+        int front = offset;
+        int back = offset + length - 1;
+        while (front < back) {
+            if (candidate[front++] != candidate[back--]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks the bytes between the buffer's position and limit as single-byte encoded text (ASCII
+     * or Latin-1), without changing the position. Heap buffers use the word-sized comparison of
+     * {@link #isPalindromeLatin1(byte[], int, int)} on the backing array; direct buffers, such as
+     * a slice of a {@code MappedByteBuffer}, use absolute {@code getLong} reads.
+     */
+    public static boolean isPalindromeLatin1(ByteBuffer candidate) {
+        if (candidate == null)
+            return true;
+
+        if (candidate.hasArray()) {
+            return isPalindromeLatin1(candidate.array(),
+                    candidate.arrayOffset() + candidate.position(), candidate.remaining());
+        }
+        int front = candidate.position();
+        int back = candidate.limit();
+        // equal byte order at both ends is all that matters, so the buffer's own order is fine
+        while (back - front >= 2 * Long.BYTES) {
+            back -= Long.BYTES;
+            if (candidate.getLong(front) != Long.reverseBytes(candidate.getLong(back))) {
+                return false;
+            }
+            front += Long.BYTES;
+        }
+        while (front < --back) {
+            if (candidate.get(front++) != candidate.get(back)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks the UTF-8 encoded text between the buffer's position and limit, without changing the
+     * position. Code points are decoded from both ends, so multi-byte characters are compared as
+     * a whole rather than byte by byte. Note that this compares code points: unlike
+     * {@link #isPalindrome(String)}, a supplementary character matches itself.
+     * <p>
+     * Malformed bytes are compared as single bytes, and never match a well-formed code point.
+     */
+    public static boolean isPalindromeUtf8(ByteBuffer candidate) {
+        if (candidate == null)
+            return true;
+
+        int front = candidate.position();
+        int back = candidate.limit();
+        while (front < back) {
+            int backStart = utf8Start(candidate, front, back);
+            if (backStart <= front) {
+                // at most one code point left in the middle
+                return true;
+            }
+            long frontCodePoint = utf8Decode(candidate, front, back);
+            long backCodePoint = utf8Decode(candidate, backStart, back);
+            if ((int) frontCodePoint != (int) backCodePoint) {
+                return false;
+            }
+            front += (int) (frontCodePoint >>> 32);
+            back = backStart;
+        }
+        return true;
+    }
+
+    /**
+     * Finds the longest palindromic substring in O(n) time, using Manacher's algorithm (see
+     * {@link PalindromeSpans}). If there is more than one, the leftmost is returned.
+     *
+     * @return the palindrome as a {@code subSequence} of {@code text}; empty if {@code text} is
+     */
+    public static CharSequence longestPalindrome(CharSequence text) {
+        PalindromeSpans spans = PalindromeSpans.of(text, 1);
+        int start = 0;
+        int end = 0;
+        while (spans.next()) {
+            if (spans.length() > end - start) {
+                start = spans.start();
+                end = spans.end();
+            }
+        }
+        return text.subSequence(start, end);
+    }
+
+    /**
+     * @return a cursor over the maximal palindromic spans of {@code text} that are at least
+     *         {@code minLength} characters long
+     */
+    public static PalindromeSpans palindromeSpans(CharSequence text, int minLength) {
+        return PalindromeSpans.of(text, minLength);
+    }
+
+    /**
+     * Checks each of the candidates in turn; a {@code null} candidate is a palindrome, as with
+     * {@link #isPalindrome(String)}.
+     *
+     * @return an array where element {@code i} is the result for {@code candidates[i]}
+     */
+    public static boolean[] arePalindromes(CharSequence[] candidates) {
+        boolean[] results = new boolean[candidates.length];
+        for (int i = 0; i < candidates.length; i++) {
+            results[i] = isPalindrome(candidates[i]);
+        }
+        return results;
+    }
+
+    /**
+     * Filters a (possibly parallel) stream down to its palindromes. The check is stateless, so a
+     * parallel stream splits the work across the common fork-join pool.
+     */
+    public static <T extends CharSequence> Stream<T> palindromes(Stream<T> candidates) {
+        return candidates.filter(StringUtils::isPalindrome);
+    }
+
+    /**
+     * Fast path for single-byte encoded text (ASCII or Latin-1), comparing 8 bytes from each end at
+     * a time: the bytes read from the back are reversed with {@link Long#reverseBytes(long)} so
+     * that a palindrome's two words are equal.
+     */
+    public static boolean isPalindromeLatin1(byte[] candidate) {
+        if (candidate == null)
+            return true;
+
+        return isPalindromeLatin1(candidate, 0, candidate.length);
+    }
+
+    /**
+     * Same as {@link #isPalindromeLatin1(byte[])}, for the {@code length} bytes of
+     * {@code candidate} starting at {@code offset}.
+     */
+    public static boolean isPalindromeLatin1(byte[] candidate, int offset, int length) {
+        if (candidate == null)
+            return true;
+
+        int front = offset;
+        int back = offset + length;
+        while (back - front >= 2 * Long.BYTES) {
+            back -= Long.BYTES;
+            long frontWord = (long) LONG_VIEW.get(candidate, front);
+            long backWord = (long) LONG_VIEW.get(candidate, back);
+            if (frontWord != Long.reverseBytes(backWord)) {
+                return false;
+            }
+            front += Long.BYTES;
+        }
+        while (front < --back) {
+            if (candidate[front++] != candidate[back]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finds the first byte of the code point that ends just before {@code end}, by stepping back
+     * over at most three continuation bytes.
+     */
+    private static int utf8Start(ByteBuffer buffer, int from, int end) {
+        int start = end - 1;
+        while (start > from && end - start < 4 && (buffer.get(start) & 0xC0) == 0x80) {
+            start--;
+        }
+        if (start != end - 1 && (int) (utf8Decode(buffer, start, end) >>> 32) != end - start) {
+            // not a well-formed sequence ending at end, so treat the last byte on its own
+            return end - 1;
+        }
+        return start;
+    }
+
+    /**
+     * Decodes the code point starting at {@code index}, returning the number of bytes consumed in
+     * the upper 32 bits and the code point in the lower 32 bits (negative for a malformed byte).
+     */
+    private static long utf8Decode(ByteBuffer buffer, int index, int end) {
+        int lead = buffer.get(index) & 0xFF;
+        int length;
+        int codePoint;
+        if (lead < 0x80) {
+            return (1L << 32) | lead;
+        } else if ((lead & 0xE0) == 0xC0) {
+            length = 2;
+            codePoint = lead & 0x1F;
+        } else if ((lead & 0xF0) == 0xE0) {
+            length = 3;
+            codePoint = lead & 0x0F;
+        } else if ((lead & 0xF8) == 0xF0) {
+            length = 4;
+            codePoint = lead & 0x07;
+        } else {
+            return malformed(lead);
+        }
+        if (index + length > end) {
+            return malformed(lead);
+        }
+        for (int i = index + 1; i < index + length; i++) {
+            int continuation = buffer.get(i) & 0xFF;
+            if ((continuation & 0xC0) != 0x80) {
+                return malformed(lead);
+            }
+            codePoint = (codePoint << 6) | (continuation & 0x3F);
+        }
+        return ((long) length << 32) | codePoint;
+    }
+
+    private static long malformed(int lead) {
+        return (1L << 32) | ((-lead - 1) & 0xFFFFFFFFL);
+    }
+
 }
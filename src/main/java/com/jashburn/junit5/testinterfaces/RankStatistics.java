@@ -0,0 +1,131 @@
+package com.jashburn.junit5.testinterfaces;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrent per-{@link Rank} counters, indexed by ordinal rather than hashed.
+ * <p>
+ * Sets of ranks are represented as {@code int} bit masks, with bit {@code rank.ordinal()} set for
+ * each rank in the set, so that a range such as {@code between(CORPORAL, STAFF_SERGEANT)} is
+ * computed with two shifts and tested with a single {@code AND}; this relies on there being no
+ * more than 32 ranks. Counters are {@link LongAdder}s,
+ * so threads recording at the same time do not contend on a single value.
+ */
+public final class RankStatistics {
+
+    private static final Rank[] RANKS = Rank.values();
+
+    /** Every rank. */
+    public static final int ALL = between(RANKS[0], RANKS[RANKS.length - 1]);
+
+    private final LongAdder[] counts = new LongAdder[RANKS.length];
+
+    public RankStatistics() {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * @return the mask of the ranks from {@code from} to {@code to}, both inclusive
+     * @throws IllegalArgumentException if {@code from} is above {@code to}
+     */
+    public static int between(Rank from, Rank to) {
+        if (from.compareTo(to) > 0) {
+            throw new IllegalArgumentException(from + " is above " + to);
+        }
+        // an int 1 << 32 is 1 again, so the upper bound is computed as a long
+        int upTo = (int) ((1L << (to.ordinal() + 1)) - 1);
+        return upTo & (-1 << from.ordinal());
+    }
+
+    /**
+     * @return the mask of the given ranks
+     */
+    public static int maskOf(Rank... ranks) {
+        int mask = 0;
+        for (Rank rank : ranks) {
+            mask |= 1 << rank.ordinal();
+        }
+        return mask;
+    }
+
+    public static boolean contains(int mask, Rank rank) {
+        return (mask & (1 << rank.ordinal())) != 0;
+    }
+
+    /**
+     * @return the ranks in {@code mask}
+     */
+    public static EnumSet<Rank> ranks(int mask) {
+        EnumSet<Rank> ranks = EnumSet.noneOf(Rank.class);
+        for (int bits = mask & ALL; bits != 0; bits &= bits - 1) {
+            ranks.add(RANKS[Integer.numberOfTrailingZeros(bits)]);
+        }
+        return ranks;
+    }
+
+    public void record(Rank rank) {
+        counts[rank.ordinal()].increment();
+    }
+
+    public void record(Rank rank, long count) {
+        counts[rank.ordinal()].add(count);
+    }
+
+    public long count(Rank rank) {
+        return counts[rank.ordinal()].sum();
+    }
+
+    /**
+     * @return the sum of the counts of the ranks in {@code mask}
+     */
+    public long count(int mask) {
+        long sum = 0;
+        for (int bits = mask & ALL; bits != 0; bits &= bits - 1) {
+            sum += counts[Integer.numberOfTrailingZeros(bits)].sum();
+        }
+        return sum;
+    }
+
+    public long total() {
+        return count(ALL);
+    }
+
+    /**
+     * @return the count of each rank, indexed by ordinal; not an atomic snapshot if other threads
+     *         are recording
+     */
+    public long[] toArray() {
+        long[] snapshot = new long[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            snapshot[i] = counts[i].sum();
+        }
+        return snapshot;
+    }
+
+    /**
+     * @return the count of each rank, as {@link #toArray()}
+     */
+    public Map<Rank, Long> toMap() {
+        Map<Rank, Long> snapshot = new EnumMap<>(Rank.class);
+        for (int i = 0; i < counts.length; i++) {
+            snapshot.put(RANKS[i], counts[i].sum());
+        }
+        return snapshot;
+    }
+
+    public void reset() {
+        for (LongAdder count : counts) {
+            count.reset();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return toMap().toString();
+    }
+}
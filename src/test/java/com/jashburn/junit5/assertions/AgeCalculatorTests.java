@@ -0,0 +1,110 @@
+package com.jashburn.junit5.assertions;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class AgeCalculatorTests {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2020-02-29", "2021-02-28", "2021-03-01", "2024-12-31", "1970-01-01",
+            "1600-03-01"})
+    void agreesWithPeriod(LocalDate today) {
+        AgeCalculator calculator = new AgeCalculator(today);
+        SplittableRandom random = new SplittableRandom(today.toEpochDay());
+        for (int i = 0; i < 10_000; i++) {
+            LocalDate dateOfBirth = today.minusDays(random.nextInt(60_000));
+            assertEquals(Period.between(dateOfBirth, today).getYears(),
+                    calculator.age(dateOfBirth), dateOfBirth::toString);
+        }
+    }
+
+    @Test
+    void agreesWithPeriodBeyondPrecomputedYears() {
+        LocalDate today = LocalDate.of(2020, 2, 29);
+        AgeCalculator calculator = new AgeCalculator(today);
+        for (int years = 195; years < 450; years++) {
+            LocalDate dateOfBirth = today.minusYears(years).plusDays(years % 3 - 1);
+            assertEquals(Period.between(dateOfBirth, today).getYears(),
+                    calculator.age(dateOfBirth), dateOfBirth::toString);
+        }
+    }
+
+    @Test
+    void batchBirthdayQueriesMatchSingleChecks() {
+        AgeCalculator calculator = new AgeCalculator(LocalDate.of(2023, 12, 20));
+        int[] epochDays = new SplittableRandom(9).ints(20_000, -90_000, 25_000).toArray();
+        epochDays[0] = AgeCalculator.NO_DATE;
+
+        for (int days : new int[] {-1, 0, 1, 15, 366, 800}) {
+            int[] expected = IntStream.range(0, epochDays.length)
+                    .filter(i -> calculator.hasBirthdayWithin(epochDays[i], days))
+                    .toArray();
+            assertArrayEquals(expected, calculator.birthdaysWithin(epochDays, days));
+        }
+    }
+
+    @Test
+    void leapDayBirthdaysFallOnFirstOfMarchInOtherYears() {
+        int leapDay = (int) LocalDate.of(2000, 2, 29).toEpochDay();
+
+        assertEquals(20, new AgeCalculator(LocalDate.of(2021, 2, 28)).age(leapDay));
+        assertEquals(21, new AgeCalculator(LocalDate.of(2021, 3, 1)).age(leapDay));
+        assertEquals(1, new AgeCalculator(LocalDate.of(2021, 2, 28)).daysUntilBirthday(leapDay));
+        assertEquals(0, new AgeCalculator(LocalDate.of(2024, 2, 29)).daysUntilBirthday(leapDay));
+        assertEquals(364, new AgeCalculator(LocalDate.of(2023, 3, 2)).daysUntilBirthday(leapDay));
+        assertEquals(0, new AgeCalculator(LocalDate.of(2023, 3, 1)).daysUntilBirthday(leapDay));
+        assertTrue(new AgeCalculator(LocalDate.of(2023, 3, 1)).hasBirthdayWithin(leapDay, 1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2021-12-20", "2023-02-27", "2024-02-27", "2024-03-01"})
+    void findsBirthdaysInWindow(LocalDate today) {
+        AgeCalculator calculator = new AgeCalculator(today);
+        int[] epochDays = IntStream.range(0, 3000).map(i -> 7000 + 7 * i).toArray();
+
+        int[] expected = IntStream.range(0, epochDays.length)
+                .filter(i -> nextBirthday(LocalDate.ofEpochDay(epochDays[i]), today)
+                        .isBefore(today.plusDays(30)))
+                .toArray();
+        assertArrayEquals(expected, calculator.birthdaysWithin(epochDays, 30));
+        assertArrayEquals(expected, calculator.birthdaysWithinParallel(epochDays, 30));
+    }
+
+    @Test
+    void parallelAgesMatchSequential() {
+        AgeCalculator calculator = new AgeCalculator(LocalDate.of(2020, 6, 15));
+        int[] epochDays = new SplittableRandom(5).ints(100_000, -20_000, 18_000).toArray();
+
+        assertArrayEquals(calculator.ages(epochDays), calculator.agesParallel(epochDays));
+    }
+
+    @Test
+    void missingDatesHaveNoAgeOrBirthday() {
+        AgeCalculator calculator = new AgeCalculator(LocalDate.of(2020, 6, 15));
+
+        assertEquals(-1, calculator.age(AgeCalculator.NO_DATE));
+        assertFalse(calculator.hasBirthdayWithin(AgeCalculator.NO_DATE, 366));
+        assertTrue(calculator.hasBirthdayWithin((int) LocalDate.of(1990, 6, 15).toEpochDay(), 1));
+    }
+
+    private static LocalDate nextBirthday(LocalDate dateOfBirth, LocalDate today) {
+        boolean leapDay = dateOfBirth.getMonthValue() == 2 && dateOfBirth.getDayOfMonth() == 29;
+        for (int year = today.getYear();; year++) {
+            LocalDate birthday = leapDay && !LocalDate.of(year, 1, 1).isLeapYear()
+                    ? LocalDate.of(year, 3, 1)
+                    : dateOfBirth.withYear(year);
+            if (!birthday.isBefore(today)) {
+                return birthday;
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.jashburn.junit5.assertions;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.SplittableRandom;
+import com.jashburn.junit5.assertions.Calculator.Overflow;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class CalculatorTests {
+
+    private static final int MAX = Integer.MAX_VALUE;
+    private static final int MIN = Integer.MIN_VALUE;
+
+    private final Calculator calculator = new Calculator();
+
+    @Test
+    void wrap() {
+        assertEquals(MIN, calculator.add(MAX, 1, Overflow.WRAP));
+        assertEquals(MAX, calculator.subtract(MIN, 1, Overflow.WRAP));
+        assertEquals(-2, calculator.multiply(MAX, 2, Overflow.WRAP));
+        assertEquals(MIN, calculator.divide(MIN, -1, Overflow.WRAP));
+    }
+
+    @Test
+    void saturate() {
+        assertEquals(MAX, calculator.add(MAX, 1, Overflow.SATURATE));
+        assertEquals(MIN, calculator.add(MIN, -1, Overflow.SATURATE));
+        assertEquals(MIN, calculator.subtract(MIN, 1, Overflow.SATURATE));
+        assertEquals(MAX, calculator.subtract(0, MIN, Overflow.SATURATE));
+        assertEquals(MIN, calculator.multiply(MAX, -2, Overflow.SATURATE));
+        assertEquals(MAX, calculator.divide(MIN, -1, Overflow.SATURATE));
+    }
+
+    @Test
+    void throwOnOverflow() {
+        assertThrows(ArithmeticException.class, () -> calculator.add(MAX, 1, Overflow.THROW));
+        assertThrows(ArithmeticException.class, () -> calculator.subtract(MIN, 1, Overflow.THROW));
+        assertThrows(ArithmeticException.class, () -> calculator.multiply(MAX, 2, Overflow.THROW));
+        assertThrows(ArithmeticException.class, () -> calculator.divide(MIN, -1, Overflow.THROW));
+        assertEquals(6, calculator.multiply(2, 3, Overflow.THROW));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Overflow.class)
+    void divisionByZeroAlwaysThrows(Overflow overflow) {
+        assertThrows(ArithmeticException.class, () -> calculator.divide(1, 0, overflow));
+        assertThrows(ArithmeticException.class,
+                () -> calculator.divide(new int[] {1}, new int[] {0}, new int[1], overflow));
+    }
+
+    /**
+     * The array loops are written separately from the scalar operations, so compare them on
+     * random operands, biased towards the extremes where overflow happens.
+     */
+    @ParameterizedTest
+    @EnumSource(value = Overflow.class, names = {"WRAP", "SATURATE"})
+    void bulkAgreesWithScalar(Overflow overflow) {
+        int[] a = randomOperands(1);
+        int[] b = randomOperands(2);
+        int[] out = new int[a.length];
+
+        calculator.add(a, b, out, overflow);
+        for (int i = 0; i < a.length; i++) {
+            assertEquals(calculator.add(a[i], b[i], overflow), out[i]);
+        }
+        calculator.subtract(a, b, out, overflow);
+        for (int i = 0; i < a.length; i++) {
+            assertEquals(calculator.subtract(a[i], b[i], overflow), out[i]);
+        }
+        calculator.multiply(a, b, out, overflow);
+        for (int i = 0; i < a.length; i++) {
+            assertEquals(calculator.multiply(a[i], b[i], overflow), out[i]);
+        }
+        calculator.divide(a, b, out, overflow);
+        for (int i = 0; i < a.length; i++) {
+            assertEquals(calculator.divide(a[i], b[i], overflow), out[i]);
+        }
+    }
+
+    @Test
+    void bulkDefaultsToWrap() {
+        int[] out = new int[2];
+        calculator.add(new int[] {MAX, 1}, new int[] {1, 2}, out);
+        assertArrayEquals(new int[] {MIN, 3}, out);
+    }
+
+    @Test
+    void bulkThrowKeepsEarlierResults() {
+        int[] out = new int[3];
+        assertThrows(ArithmeticException.class, () -> calculator.add(new int[] {1, MAX, 3},
+                new int[] {1, 1, 1}, out, Overflow.THROW));
+        assertArrayEquals(new int[] {2, 0, 0}, out);
+    }
+
+    @Test
+    void lengthsMustMatch() {
+        assertThrows(IllegalArgumentException.class,
+                () -> calculator.add(new int[2], new int[2], new int[1]));
+    }
+
+    @Test
+    void heapAndDirectBuffers() {
+        int[] a = randomOperands(3);
+        int[] b = randomOperands(4);
+        int[] expected = new int[a.length];
+        calculator.multiply(a, b, expected, Overflow.SATURATE);
+
+        IntBuffer heapOut = IntBuffer.allocate(a.length + 1).position(1);
+        calculator.multiply(IntBuffer.wrap(a), IntBuffer.wrap(b), heapOut, Overflow.SATURATE);
+        assertEquals(1, heapOut.position());
+        assertEquals(IntBuffer.wrap(expected), heapOut);
+
+        IntBuffer directOut = ByteBuffer.allocateDirect(a.length * Integer.BYTES).asIntBuffer();
+        calculator.multiply(IntBuffer.wrap(a), IntBuffer.wrap(b), directOut, Overflow.SATURATE);
+        assertEquals(IntBuffer.wrap(expected), directOut);
+    }
+
+    private static int[] randomOperands(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] operands = new int[1000];
+        for (int i = 0; i < operands.length; i++) {
+            switch (random.nextInt(4)) {
+                case 0:
+                    operands[i] = MAX - random.nextInt(3);
+                    break;
+                case 1:
+                    operands[i] = MIN + random.nextInt(3);
+                    break;
+                default:
+                    operands[i] = random.nextInt();
+                    break;
+            }
+            if (operands[i] == 0) {
+                operands[i] = -1;
+            }
+        }
+        return operands;
+    }
+}
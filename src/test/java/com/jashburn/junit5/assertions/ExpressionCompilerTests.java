@@ -0,0 +1,128 @@
+package com.jashburn.junit5.assertions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.List;
+import java.util.Map;
+import com.jashburn.junit5.assertions.Calculator.Overflow;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class ExpressionCompilerTests {
+
+    private final ExpressionCompiler compiler = new ExpressionCompiler();
+
+    @ParameterizedTest
+    @CsvSource({"1 + 2 * 3, 7", "(1 + 2) * 3, 9", "10 - 4 - 3, 3", "100 / 10 / 5, 2",
+            "-3 * -(2 - 7), -15", "7 / 2, 3", "  42  , 42"})
+    void evaluatesConstantExpressions(String text, int expected) {
+        assertEquals(expected, compiler.compile(text).evaluate());
+    }
+
+    @Test
+    void resolvesVariablesInOrderOfFirstAppearance() {
+        CompiledExpression expression = compiler.compile("(price - discount) * qty / 100 + price");
+
+        assertEquals(List.of("price", "discount", "qty"), expression.variables());
+        assertEquals(205, expression.evaluate(200, 20, 3));
+        assertEquals(205, expression.evaluate(Map.of("qty", 3, "price", 200, "discount", 20)));
+    }
+
+    @Test
+    void cachesCompiledExpressionsByText() {
+        CompiledExpression first = compiler.compile("a * b");
+
+        assertSame(first, compiler.compile("a * b"));
+        assertEquals(1, compiler.cachedExpressions());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedExpression() {
+        ExpressionCompiler small = new ExpressionCompiler(Overflow.WRAP, 2);
+        CompiledExpression a = small.compile("a");
+        small.compile("b");
+        small.compile("a");
+        small.compile("c");
+
+        assertEquals(2, small.cachedExpressions());
+        assertSame(a, small.compile("a"));
+    }
+
+    @Test
+    void appliesOverflowPolicy() {
+        String text = "x * 2";
+
+        assertEquals(-2, new ExpressionCompiler().compile(text).evaluate(Integer.MAX_VALUE));
+        assertEquals(Integer.MAX_VALUE, new ExpressionCompiler(Overflow.SATURATE, 8).compile(text)
+                .evaluate(Integer.MAX_VALUE));
+        CompiledExpression throwing = new ExpressionCompiler(Overflow.THROW, 8).compile(text);
+        assertThrows(ArithmeticException.class, () -> throwing.evaluate(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void appliesOverflowPolicyToNegation() {
+        String text = "-x";
+
+        assertEquals(Integer.MIN_VALUE, compiler.compile(text).evaluate(Integer.MIN_VALUE));
+        assertEquals(Integer.MAX_VALUE, new ExpressionCompiler(Overflow.SATURATE, 8).compile(text)
+                .evaluate(Integer.MIN_VALUE));
+        ExpressionCompiler throwing = new ExpressionCompiler(Overflow.THROW, 8);
+        assertThrows(ArithmeticException.class,
+                () -> throwing.compile(text).evaluate(Integer.MIN_VALUE));
+        // folded at compile time, so the overflow is deferred to evaluation
+        CompiledExpression folded = throwing.compile("-(-2147483647 - 1)");
+        assertThrows(ArithmeticException.class, folded::evaluate);
+    }
+
+    @Test
+    void rejectsDeepNestingInsteadOfOverflowingTheStack() {
+        String parentheses = "(".repeat(100_000) + "1" + ")".repeat(100_000);
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> compiler.compile(parentheses));
+        assertTrue(e.getMessage().contains("at position 256 in: "), e.getMessage());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> compiler.compile("-".repeat(100_000) + "1"));
+        assertEquals(1, compiler.compile("(".repeat(128) + "--1" + ")".repeat(128)).evaluate());
+    }
+
+    @Test
+    void evaluatesLongFlatChainsWithoutRecursion() {
+        assertEquals(50_001, compiler.compile("x" + "+x".repeat(50_000)).evaluate(1));
+        assertEquals(-1, compiler.compile("x" + "*x".repeat(50_000)).evaluate(-1));
+        assertEquals(50_000, compiler.compile("1 - 1" + "+ 2 * x - x".repeat(50_000))
+                .evaluate(1));
+        // the constant prefix is folded, the rest of the chain is kept in order
+        assertEquals(4, compiler.compile("2 * 3 - x - 1").evaluate(1));
+    }
+
+    @Test
+    void defersDivisionByZeroToEvaluation() {
+        CompiledExpression expression = compiler.compile("1 / 0");
+
+        assertThrows(ArithmeticException.class, expression::evaluate);
+    }
+
+    @Test
+    void reportsPositionOfSyntaxErrors() {
+        IllegalArgumentException e =
+                assertThrows(IllegalArgumentException.class, () -> compiler.compile("1 + * 2"));
+        assertTrue(e.getMessage().contains("position 4"), e.getMessage());
+
+        assertThrows(IllegalArgumentException.class, () -> compiler.compile("(1 + 2"));
+        assertThrows(IllegalArgumentException.class, () -> compiler.compile("1 2"));
+        assertThrows(IllegalArgumentException.class, () -> compiler.compile(""));
+        assertThrows(IllegalArgumentException.class, () -> compiler.compile("99999999999"));
+    }
+
+    @Test
+    void rejectsWrongNumberOfValues() {
+        CompiledExpression expression = compiler.compile("a + b");
+
+        assertThrows(IllegalArgumentException.class, () -> expression.evaluate(1));
+        assertThrows(IllegalArgumentException.class, () -> expression.evaluate(Map.of("a", 1)));
+    }
+}
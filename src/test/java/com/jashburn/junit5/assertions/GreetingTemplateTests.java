@@ -0,0 +1,76 @@
+package com.jashburn.junit5.assertions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.LocalDate;
+import com.jashburn.junit5.assertions.Person.Gender;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class GreetingTemplateTests {
+
+    private final Person jane = new Person("Jane", "Doe", Gender.F, LocalDate.of(1990, 5, 20));
+
+    @Test
+    void rendersAllFields() {
+        GreetingTemplate template =
+                GreetingTemplate.compile("{lastName}, {firstName} ({gender}, {dateOfBirth})");
+
+        assertEquals("Doe, Jane (F, 1990-05-20)", template.render(jane));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0001-01-01", "0999-12-31", "2020-02-29", "9999-12-31", "-0001-06-15",
+            "+10000-01-01"})
+    void rendersDatesLikeLocalDate(LocalDate dateOfBirth) {
+        Person person = new Person("Jane", "Doe", Gender.F, dateOfBirth);
+
+        assertEquals(dateOfBirth.toString(),
+                GreetingTemplate.compile("{dateOfBirth}").render(person));
+    }
+
+    @Test
+    void rendersEscapedBracesAndMissingFields() {
+        GreetingTemplate template = GreetingTemplate.compile("{{{firstName}}} is {gender}");
+
+        assertEquals("{Jane} is null", template.render(new Person("Jane", "Doe")));
+    }
+
+    @Test
+    void rendersIntoAppendables() throws IOException {
+        StringBuilder builder = new StringBuilder("> ");
+        StringWriter writer = new StringWriter();
+
+        assertSame(builder, GreetingTemplate.DEFAULT.renderTo(jane, builder));
+        GreetingTemplate.DEFAULT.renderTo(jane, writer);
+
+        assertEquals("> Hi! I'm Jane", builder.toString());
+        assertEquals("Hi! I'm Jane", writer.toString());
+    }
+
+    @Test
+    void cachesCompiledTemplates() {
+        assertSame(GreetingTemplate.compile("Dear {lastName}"),
+                GreetingTemplate.compile("Dear {lastName}"));
+    }
+
+    @Test
+    void memoizesDefaultGreeting() {
+        String greeting = jane.greeting();
+
+        assertEquals("Hi! I'm Jane", greeting);
+        assertSame(greeting, jane.greeting());
+        assertEquals("Hello Jane Doe",
+                GreetingTemplate.compile("Hello {firstName} {lastName}").render(jane));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Hi {name}", "Hi {firstName", "Hi }", "Hi {firstName}}"})
+    void rejectsMalformedTemplates(String pattern) {
+        assertThrows(IllegalArgumentException.class, () -> GreetingTemplate.compile(pattern));
+    }
+}
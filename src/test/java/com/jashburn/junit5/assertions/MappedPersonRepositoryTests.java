@@ -0,0 +1,141 @@
+package com.jashburn.junit5.assertions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import com.jashburn.junit5.assertions.Person.Gender;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedPersonRepositoryTests {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void readsRecordsBackThroughViews() throws IOException {
+        try (MappedPersonRepository repository = create(4)) {
+            repository.add(new Person("Jane", "Doe", Gender.F, LocalDate.of(1990, 5, 20)));
+            repository.add(new Person("Zoë", null));
+
+            PersonView jane = repository.get(0);
+            assertEquals("Jane", jane.getFirstName());
+            assertEquals("Doe", jane.getLastName());
+            assertEquals(Gender.F, jane.getGender());
+            assertEquals(LocalDate.of(1990, 5, 20), jane.getDateOfBirth());
+            PersonView zoe = repository.get(1);
+            assertEquals("Zoë", zoe.getFirstName());
+            assertNull(zoe.getLastName());
+            assertNull(zoe.getGender());
+            assertNull(zoe.getDateOfBirth());
+        }
+    }
+
+    @Test
+    void reopensWithoutLosingRecords() throws IOException {
+        Path file = tempDir.resolve("people.bin");
+        try (MappedPersonRepository repository = MappedPersonRepository.create(file, 1000)) {
+            for (int i = 0; i < 1000; i++) {
+                repository.add("First" + i, "Last" + (i % 10), Gender.values()[i % 2],
+                        LocalDate.ofEpochDay(i));
+            }
+        }
+
+        try (MappedPersonRepository repository = MappedPersonRepository.open(file)) {
+            assertEquals(1000, repository.size());
+            assertEquals(new Person("First999", "Last9"), repository.get(999).toPerson());
+            assertEquals(LocalDate.ofEpochDay(500), repository.get(500).getDateOfBirth());
+            List<String> lastNames = new ArrayList<>();
+            repository.forEach(view -> lastNames.add(view.getLastName()));
+            assertEquals("Last3", lastNames.get(13));
+        }
+    }
+
+    @Test
+    void appendsAfterReopening() throws IOException {
+        Path file = tempDir.resolve("people.bin");
+        try (MappedPersonRepository repository = MappedPersonRepository.create(file, 2)) {
+            repository.add(new Person("Jane", "Doe"));
+        }
+
+        try (MappedPersonRepository repository = MappedPersonRepository.open(file)) {
+            repository.add(new Person("John", "Doe"));
+            assertEquals("Jane", repository.get(0).getFirstName());
+            assertEquals("John", repository.get(1).getFirstName());
+        }
+    }
+
+    @Test
+    void growsStringHeap() throws IOException {
+        String longName = "x".repeat(60_000);
+        try (MappedPersonRepository repository = create(2)) {
+            repository.add(longName, longName + "y", null, null);
+
+            assertEquals(longName, repository.get(0).getFirstName());
+            assertEquals(longName + "y", repository.get(0).getLastName());
+        }
+    }
+
+    @Test
+    void storesNamesUpToTheCodecLimit() throws IOException {
+        String longest = "x".repeat(PersonCodec.MAX_NAME_LENGTH);
+        try (MappedPersonRepository repository = create(2)) {
+            repository.add(longest, "Doe", null, null);
+            assertEquals(longest, repository.get(0).getFirstName());
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> repository.add(longest + "x", "Doe", null, null));
+        }
+    }
+
+    @Test
+    void rejectsRecordsBeyondCapacity() throws IOException {
+        try (MappedPersonRepository repository = create(1)) {
+            repository.add(new Person("Jane", "Doe"));
+
+            assertThrows(IllegalStateException.class,
+                    () -> repository.add(new Person("John", "Doe")));
+            assertThrows(IndexOutOfBoundsException.class, () -> repository.get(1));
+        }
+    }
+
+    @Test
+    void rejectsOtherFiles() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("not-a-repository.txt"), "Jane,Doe");
+
+        assertThrows(IOException.class, () -> MappedPersonRepository.open(file));
+    }
+
+    @Test
+    void rejectsHeadersThatDoNotMatchTheFile() throws IOException {
+        try (MappedPersonRepository repository = create(4)) {
+            repository.add(new Person("Jane", "Doe"));
+        }
+        Path file = tempDir.resolve("people.bin");
+        byte[] contents = Files.readAllBytes(file);
+
+        // count over capacity, heap beyond the end of the file, capacity beyond the end of the file
+        for (int[] corruption : new int[][] {{8, 5}, {16, contents.length}, {12, 1 << 20}}) {
+            byte[] corrupt = contents.clone();
+            ByteBuffer.wrap(corrupt).putInt(corruption[0], corruption[1]);
+            Files.write(file, corrupt);
+
+            assertThrows(IOException.class, () -> MappedPersonRepository.open(file));
+        }
+        Files.write(file, Arrays.copyOf(contents, 40));
+
+        assertThrows(IOException.class, () -> MappedPersonRepository.open(file));
+    }
+
+    private MappedPersonRepository create(int capacity) throws IOException {
+        return MappedPersonRepository.create(tempDir.resolve("people.bin"), capacity);
+    }
+}
@@ -0,0 +1,142 @@
+package com.jashburn.junit5.assertions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+import com.jashburn.junit5.assertions.Person.Gender;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class PersonCodecTests {
+
+    static Stream<Person> people() {
+        return Stream.of(new Person("Jane", "Doe", Gender.F, LocalDate.of(1990, 5, 20)),
+                new Person("John", "Doe", Gender.M, LocalDate.of(1969, 7, 20)),
+                new Person("Zoë", "Åström", null, LocalDate.MIN),
+                new Person("x".repeat(300), "", Gender.F, LocalDate.MAX),
+                new Person(null, null));
+    }
+
+    @ParameterizedTest
+    @MethodSource("people")
+    void roundTripsThroughDataOutput(Person person) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PersonCodec.write(person, new DataOutputStream(bytes));
+
+        Person read = PersonCodec.read(new DataInputStream(
+                new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertSameFields(person, read);
+    }
+
+    @ParameterizedTest
+    @MethodSource("people")
+    void roundTripsThroughByteBuffers(Person person) {
+        for (ByteBuffer buffer : List.of(ByteBuffer.allocate(512), ByteBuffer.allocateDirect(512))) {
+            PersonCodec.write(person, buffer);
+            buffer.flip();
+
+            assertSameFields(person, PersonCodec.read(buffer));
+            assertEquals(0, buffer.remaining());
+        }
+    }
+
+    @Test
+    void encodingsAgree() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        PersonCodec.writeHeader(out);
+        PersonCodec.writeHeader(buffer);
+        people().forEach(person -> {
+            try {
+                PersonCodec.write(person, out);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            PersonCodec.write(person, buffer);
+        });
+        buffer.flip();
+
+        assertEquals(ByteBuffer.wrap(bytes.toByteArray()), buffer);
+    }
+
+    @Test
+    void isCompact() {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        PersonCodec.write(new Person("Jane", "Doe", Gender.F, LocalDate.of(1990, 5, 20)), buffer);
+
+        assertEquals(12, buffer.position());
+    }
+
+    @Test
+    void readsStreamsOfRecords() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        PersonCodec.writeHeader(out);
+        for (int i = 0; i < 100; i++) {
+            PersonCodec.write(new Person("First" + i, "Last", Gender.M, LocalDate.ofEpochDay(i)),
+                    out);
+        }
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        PersonCodec.readHeader(in);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(LocalDate.ofEpochDay(i), PersonCodec.read(in).getDateOfBirth());
+        }
+        assertThrows(EOFException.class, () -> PersonCodec.read(in));
+    }
+
+    @Test
+    void rejectsUnknownHeaders() {
+        assertThrows(IOException.class, () -> PersonCodec.readHeader(
+                new DataInputStream(new ByteArrayInputStream("CSV!".getBytes()))));
+        assertThrows(IllegalArgumentException.class,
+                () -> PersonCodec.readHeader(ByteBuffer.wrap(new byte[] {'P', 'R', 'S', 9})));
+    }
+
+    @Test
+    void rejectsMalformedRecords() {
+        // first name claims 10 bytes, but only one follows
+        assertThrows(BufferUnderflowException.class,
+                () -> PersonCodec.read(ByteBuffer.wrap(new byte[] {11, 'J'})));
+        // no names, then a gender that does not exist
+        assertThrows(IllegalArgumentException.class,
+                () -> PersonCodec.read(ByteBuffer.wrap(new byte[] {0, 0, 5})));
+    }
+
+    @Test
+    void rejectsOverlongNamesBeforeAllocatingThem() {
+        // first name claims 2^31 - 2 bytes: a varint of 0x7FFFFFFF
+        byte[] record = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 'J'};
+        IOException e = assertThrows(IOException.class, () -> PersonCodec
+                .read(new DataInputStream(new ByteArrayInputStream(record))));
+        assertEquals("Invalid name length " + Integer.MAX_VALUE, e.getMessage());
+        assertThrows(IllegalArgumentException.class,
+                () -> PersonCodec.read(ByteBuffer.wrap(record)));
+
+        Person overlong = new Person("x".repeat(PersonCodec.MAX_NAME_LENGTH + 1), "Doe");
+        assertThrows(IllegalArgumentException.class, () -> PersonCodec.write(overlong,
+                new DataOutputStream(new ByteArrayOutputStream())));
+        assertThrows(IllegalArgumentException.class,
+                () -> PersonCodec.write(overlong, ByteBuffer.allocate(1 << 17)));
+    }
+
+    private static void assertSameFields(Person expected, Person actual) {
+        assertEquals(expected.getFirstName(), actual.getFirstName());
+        assertEquals(expected.getLastName(), actual.getLastName());
+        assertEquals(expected.getGender(), actual.getGender());
+        assertEquals(expected.getDateOfBirth(), actual.getDateOfBirth());
+    }
+}
@@ -0,0 +1,108 @@
+package com.jashburn.junit5.assertions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import com.jashburn.junit5.assertions.Person.Gender;
+import org.junit.jupiter.api.Test;
+
+class PersonFactoryTests {
+
+    private final PersonFactory factory = new PersonFactory();
+
+    @Test
+    void internsNames() {
+        String jane = new String("Jane");
+
+        assertSame(jane, factory.intern(jane));
+        assertSame(jane, factory.intern(new String("Jane")));
+        assertNull(factory.intern(null));
+    }
+
+    @Test
+    void sharesNamesBetweenDifferentPeople() {
+        Person janeDoe = factory.create(new String("Jane"), new String("Doe"));
+        Person johnDoe = factory.create(new String("John"), new String("Doe"));
+
+        assertSame(janeDoe.getLastName(), johnDoe.getLastName());
+        assertEquals(3, factory.pooledNames());
+    }
+
+    @Test
+    void returnsCanonicalInstances() {
+        LocalDate dateOfBirth = LocalDate.of(1990, 5, 20);
+        Person first = factory.create(new String("Jane"), new String("Doe"), Gender.F, dateOfBirth);
+        Person second = factory.create(new String("Jane"), new String("Doe"), Gender.F,
+                LocalDate.of(1990, 5, 20));
+
+        assertSame(first, second);
+        assertEquals(1, factory.cachedPeople());
+    }
+
+    @Test
+    void keepsPeopleWithTheSameNameButOtherFieldsApart() {
+        Person jane = factory.create("Jane", "Doe", Gender.F, LocalDate.of(1990, 5, 20));
+        Person namesake = factory.create("Jane", "Doe", Gender.F, LocalDate.of(2001, 1, 1));
+
+        assertNotSame(jane, namesake);
+        assertEquals(LocalDate.of(2001, 1, 1), namesake.getDateOfBirth());
+    }
+
+    @Test
+    void boundsThePools() {
+        PersonFactory small = new PersonFactory(4, 2);
+        for (int i = 0; i < 100; i++) {
+            small.create("First" + i, "Last" + i);
+        }
+
+        assertEquals(4, small.pooledNames());
+        assertEquals(2, small.cachedPeople());
+    }
+
+    @Test
+    void keepsRecentlyUsedPeopleWhenEvicting() {
+        PersonFactory small = new PersonFactory(8, 2);
+        Person jane = small.create("Jane", "Doe");
+        small.create("John", "Doe");
+        // a hit marks Jane as recently used, so John is evicted in her place
+        small.create("Jane", "Doe");
+        small.create("Jim", "Doe");
+
+        assertSame(jane, small.create("Jane", "Doe"));
+        assertEquals(2, small.cachedPeople());
+    }
+
+    @Test
+    void returnsTheSameCanonicalInstanceToConcurrentCallers() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<Person>>> futures = IntStream.range(0, 4)
+                    .mapToObj(t -> executor.submit(() -> IntStream.range(0, 1_000)
+                            .mapToObj(i -> factory.create(new String("First" + i % 50),
+                                    new String("Last" + i % 50)))
+                            .collect(Collectors.toList())))
+                    .collect(Collectors.toList());
+            ConcurrentHashMap<String, Person> canonical = new ConcurrentHashMap<>();
+            for (Future<List<Person>> future : futures) {
+                for (Person person : future.get()) {
+                    assertSame(canonical.computeIfAbsent(person.getFirstName(), name -> person),
+                            person);
+                }
+            }
+            assertEquals(50, canonical.size());
+            assertTrue(factory.pooledNames() <= 100);
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
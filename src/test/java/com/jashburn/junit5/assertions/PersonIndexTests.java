@@ -0,0 +1,104 @@
+package com.jashburn.junit5.assertions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+import com.jashburn.junit5.assertions.Person.Gender;
+import org.junit.jupiter.api.Test;
+
+class PersonIndexTests {
+
+    private final PersonIndex index = new PersonIndex();
+    private final Person jane = new Person("Jane", "Doe", Gender.F, LocalDate.of(1990, 5, 20));
+    private final Person john = new Person("John", "Doe", Gender.M, LocalDate.of(1985, 1, 1));
+    private final Person mary = new Person("Mary", "Roe", Gender.F, LocalDate.of(2001, 1, 1));
+
+    @Test
+    void combinesCriteria() {
+        index.add(jane);
+        index.add(john);
+        index.add(mary);
+
+        assertEquals(List.of(jane, john), index.query().lastName("Doe").find());
+        assertEquals(List.of(jane), index.query().lastName("Doe").gender(Gender.F).find());
+        assertEquals(List.of(jane, mary),
+                index.query().bornAfter(LocalDate.of(1985, 1, 1)).find());
+        assertEquals(List.of(john), index.query().bornBefore(LocalDate.of(1990, 5, 20)).find());
+        assertEquals(1, index.query().gender(Gender.F)
+                .bornBetween(LocalDate.of(2000, 1, 1), LocalDate.of(2001, 1, 1)).count());
+        assertEquals(0, index.query().lastName("Smith").count());
+    }
+
+    @Test
+    void acceptsTheExtremeDatesAsBounds() {
+        Person first = new Person("Adam", "First", Gender.M, LocalDate.MIN);
+        Person last = new Person("Zed", "Last", Gender.M, LocalDate.MAX);
+        index.add(first);
+        index.add(jane);
+        index.add(last);
+
+        assertEquals(0, index.query().bornAfter(LocalDate.MAX).count());
+        assertEquals(0, index.query().bornBefore(LocalDate.MIN).count());
+        assertEquals(List.of(jane, last), index.query().bornAfter(LocalDate.MIN).find());
+        assertEquals(List.of(first, jane), index.query().bornBefore(LocalDate.MAX).find());
+        assertEquals(0, index.query().bornBetween(LocalDate.MAX, LocalDate.MIN).count());
+    }
+
+    @Test
+    void reusesIdsOfRemovedPeople() {
+        int janeId = index.add(jane);
+        int johnId = index.add(john);
+
+        assertSame(jane, index.remove(janeId));
+        assertNull(index.remove(janeId));
+        assertNull(index.get(janeId));
+        assertEquals(List.of(john), index.query().lastName("Doe").find());
+        assertEquals(0, index.query().gender(Gender.F).count());
+
+        assertEquals(janeId, index.add(mary));
+        assertSame(john, index.get(johnId));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void leavesOutMissingFields() {
+        index.add(new Person("Pat", "Doe"));
+
+        assertEquals(1, index.query().lastName("Doe").count());
+        assertEquals(0, index.query().gender(Gender.F).count());
+        assertEquals(0, index.query().bornAfter(LocalDate.MIN).count());
+    }
+
+    @Test
+    void matchesLinearScan() {
+        SplittableRandom random = new SplittableRandom(3);
+        List<Person> people = new ArrayList<>();
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            Person person = new Person("First" + i, "Last" + random.nextInt(30),
+                    Gender.values()[random.nextInt(2)],
+                    LocalDate.ofEpochDay(random.nextInt(10_000)));
+            people.add(person);
+            ids.add(index.add(person));
+        }
+        for (int i = 0; i < 2000; i += 3) {
+            index.remove(ids.get(i));
+            people.set(i, null);
+        }
+        LocalDate from = LocalDate.ofEpochDay(2000);
+        LocalDate to = LocalDate.ofEpochDay(6000);
+
+        List<Person> expected = people.stream()
+                .filter(p -> p != null && p.getLastName().equals("Last7")
+                        && p.getGender() == Gender.M && !p.getDateOfBirth().isBefore(from)
+                        && !p.getDateOfBirth().isAfter(to))
+                .collect(Collectors.toList());
+        assertEquals(expected, index.query().lastName("Last7").gender(Gender.M)
+                .bornBetween(from, to).find());
+    }
+}
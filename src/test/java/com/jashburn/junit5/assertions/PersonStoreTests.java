@@ -0,0 +1,117 @@
+package com.jashburn.junit5.assertions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import com.jashburn.junit5.assertions.Person.Gender;
+import org.junit.jupiter.api.Test;
+
+class PersonStoreTests {
+
+    private final PersonStore store = new PersonStore(2);
+
+    @Test
+    void roundTripsRecordsThroughViews() {
+        Person jane = new Person("Jane", "Doe", Gender.F, LocalDate.of(1990, 5, 20));
+        int index = store.add(jane);
+
+        PersonView view = store.get(index);
+        assertEquals("Jane", view.getFirstName());
+        assertEquals("Doe", view.getLastName());
+        assertEquals(Gender.F, view.getGender());
+        assertEquals(LocalDate.of(1990, 5, 20), view.getDateOfBirth());
+        assertEquals(jane, view.toPerson());
+    }
+
+    @Test
+    void storesMissingValues() {
+        store.add(new Person(null, "Doe"));
+
+        PersonView view = store.get(0);
+        assertNull(view.getFirstName());
+        assertNull(view.getGender());
+        assertNull(view.getDateOfBirth());
+    }
+
+    @Test
+    void sharesDictionaryBetweenNameColumns() {
+        store.add("Jane", "Doe", Gender.F, null);
+        store.add("John", "Doe", Gender.M, null);
+        store.add("Doe", "Jane", Gender.F, null);
+
+        assertEquals(3, store.size());
+        assertEquals(3, store.distinctNames());
+        assertEquals(2, store.countByLastName("Doe"));
+        assertEquals(0, store.countByLastName("Roe"));
+    }
+
+    @Test
+    void forEachVisitsRecordsInOrder() {
+        store.add("Jane", "Doe", Gender.F, null);
+        store.add("John", "Doe", Gender.M, null);
+        List<Person> people = new ArrayList<>();
+
+        store.forEach(view -> people.add(view.toPerson()));
+
+        assertEquals(List.of(new Person("Jane", "Doe"), new Person("John", "Doe")), people);
+    }
+
+    @Test
+    void countsMatchAFilterOverPeople() {
+        SplittableRandom random = new SplittableRandom(7);
+        List<Person> people = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Gender gender = random.nextInt(10) == 0 ? null : Gender.values()[random.nextInt(2)];
+            LocalDate dateOfBirth =
+                    random.nextInt(10) == 0 ? null : LocalDate.ofEpochDay(random.nextInt(20_000));
+            Person person = new Person("First" + i, "Last" + random.nextInt(20), gender,
+                    dateOfBirth);
+            people.add(person);
+            store.add(person);
+        }
+        LocalDate from = LocalDate.of(1980, 1, 1);
+        LocalDate to = LocalDate.of(1999, 12, 31);
+
+        assertEquals(people.stream().filter(p -> p.getGender() == Gender.F
+                && p.getDateOfBirth() != null && p.getDateOfBirth().isAfter(from)).count(),
+                store.countBornAfter(Gender.F, from));
+        assertEquals(people.stream().filter(p -> p.getDateOfBirth() != null
+                && !p.getDateOfBirth().isBefore(from) && !p.getDateOfBirth().isAfter(to)).count(),
+                store.countBornBetween(from, to));
+        assertEquals(people.stream().filter(p -> p.getLastName().equals("Last3")).count(),
+                store.countByLastName("Last3"));
+    }
+
+    @Test
+    void acceptsAnyDateAsQueryBound() {
+        LocalDate earliest = LocalDate.ofEpochDay(Integer.MIN_VALUE + 1);
+        LocalDate latest = LocalDate.ofEpochDay(Integer.MAX_VALUE);
+        store.add("Adam", "First", Gender.F, earliest);
+        store.add("Jane", "Doe", Gender.F, LocalDate.of(1990, 5, 20));
+        store.add("Zed", "Last", Gender.F, latest);
+        store.add("Nobody", "Undated", Gender.F, null);
+
+        assertEquals(3, store.countBornBetween(LocalDate.MIN, LocalDate.MAX));
+        assertEquals(0, store.countBornBetween(LocalDate.MAX.minusDays(1), LocalDate.MAX));
+        assertEquals(1, store.countBornBetween(LocalDate.MIN, earliest));
+        assertEquals(0, store.countBornBetween(LocalDate.MAX, LocalDate.MIN));
+        assertEquals(1, store.countBornBetween(latest, latest));
+        assertEquals(3, store.countBornAfter(Gender.F, LocalDate.MIN));
+        assertEquals(2, store.countBornAfter(Gender.F, earliest));
+        assertEquals(0, store.countBornAfter(Gender.F, latest));
+        assertEquals(0, store.countBornAfter(Gender.F, LocalDate.MAX));
+        assertThrows(NullPointerException.class, () -> store.countBornBetween(null, latest));
+        assertThrows(NullPointerException.class, () -> store.countBornAfter(Gender.F, null));
+    }
+
+    @Test
+    void rejectsOutOfRangeAccess() {
+        assertThrows(IndexOutOfBoundsException.class, () -> store.get(0));
+        assertThrows(IllegalArgumentException.class,
+                () -> store.add("Jane", "Doe", Gender.F, LocalDate.MAX));
+    }
+}
@@ -0,0 +1,41 @@
+package com.jashburn.junit5.assertions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import java.time.LocalDate;
+import com.jashburn.junit5.assertions.Person.Gender;
+import org.junit.jupiter.api.Test;
+
+class PersonTests {
+
+    @Test
+    void equalityIsBasedOnNamesOnly() {
+        Person jane = new Person("Jane", "Doe", Gender.F, LocalDate.of(1990, 5, 20));
+        Person otherJane = new Person(new String("Jane"), new String("Doe"));
+
+        assertEquals(jane, otherJane);
+        assertEquals(jane.hashCode(), otherJane.hashCode());
+        assertNotEquals(jane, new Person("Jane", "Roe"));
+        assertNotEquals(jane, "Jane Doe");
+        assertNotEquals(jane, null);
+    }
+
+    @Test
+    void handlesNullNames() {
+        Person nameless = new Person(null, null);
+
+        assertEquals(nameless, new Person(null, null));
+        assertEquals(new Person(null, null).hashCode(), nameless.hashCode());
+        assertNotEquals(nameless, new Person("Jane", null));
+        assertNotEquals(new Person(null, "Doe"), new Person("Doe", null));
+    }
+
+    @Test
+    void twoArgumentConstructorLeavesOptionalFieldsUnset() {
+        Person person = new Person("Jane", "Doe");
+
+        assertNull(person.getGender());
+        assertNull(person.getDateOfBirth());
+    }
+}
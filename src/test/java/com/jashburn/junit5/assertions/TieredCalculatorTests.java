@@ -0,0 +1,119 @@
+package com.jashburn.junit5.assertions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class TieredCalculatorTests {
+
+    private static final long MAX = Long.MAX_VALUE;
+    private static final long MIN = Long.MIN_VALUE;
+
+    private final TieredCalculator calculator = new TieredCalculator();
+
+    @Test
+    void staysOnLongWithoutOverflow() {
+        assertEquals(5L, calculator.add(2, 3));
+        assertEquals(-1L, calculator.subtract(2, 3));
+        assertEquals(6L, calculator.multiply(Integer.valueOf(2), Short.valueOf((short) 3)));
+        assertEquals(4L, calculator.divide(12L, 3L));
+    }
+
+    @Test
+    void promotesOverflowToBigInteger() {
+        BigInteger max = BigInteger.valueOf(MAX);
+        assertEquals(max.add(BigInteger.ONE), calculator.add(MAX, 1));
+        assertEquals(BigInteger.valueOf(MIN).subtract(BigInteger.ONE), calculator.subtract(MIN, 1));
+        assertEquals(max.multiply(max), calculator.multiply(MAX, MAX));
+        assertEquals(BigInteger.valueOf(MIN).negate(), calculator.divide(MIN, -1));
+    }
+
+    @Test
+    void demotesBackToLong() {
+        Number overflowed = calculator.add(MAX, 1);
+        assertEquals(MAX, calculator.subtract(overflowed, 1L));
+        assertEquals(MAX, calculator.divide(calculator.multiply(MAX, 4L), BigInteger.valueOf(4)));
+    }
+
+    @Test
+    void inexactDivisionUsesMathContext() {
+        assertEquals(new BigDecimal("0.3333333333333333"), calculator.divide(1, 3));
+        assertEquals(new BigDecimal("0.333"),
+                new TieredCalculator(new MathContext(3)).divide(1L, 3L));
+        assertEquals(new BigDecimal("2.5"), calculator.divide(BigInteger.valueOf(5), 2L));
+    }
+
+    @Test
+    void decimalOperandsGiveBigDecimal() {
+        assertEquals(new BigDecimal("0.3"), calculator.add(0.1, 0.2));
+        assertEquals(new BigDecimal("2.5"), calculator.multiply(5L, new BigDecimal("0.5")));
+    }
+
+    @Test
+    void accumulatorStaysOnLongWithoutOverflow() {
+        TieredCalculator.Accumulator accumulator =
+                calculator.accumulator(2).add(3).multiply(4).subtract(6).divide(7);
+
+        assertTrue(accumulator.isLong());
+        assertEquals(2L, accumulator.longValue());
+        assertEquals(2L, accumulator.toNumber());
+    }
+
+    @Test
+    void accumulatorPromotesAndDemotesLikeTheCalculator() {
+        TieredCalculator.Accumulator accumulator = calculator.accumulator(MAX).add(1);
+
+        assertFalse(accumulator.isLong());
+        assertEquals(calculator.add(MAX, 1), accumulator.toNumber());
+        assertThrows(ArithmeticException.class, accumulator::longValue);
+        assertEquals(MAX, accumulator.subtract(1).longValue());
+
+        assertEquals(calculator.subtract(MIN, 1),
+                calculator.accumulator(MIN).subtract(1).toNumber());
+        assertEquals(calculator.multiply(MAX, MIN),
+                calculator.accumulator(MAX).multiply(MIN).toNumber());
+        assertEquals(MIN, calculator.accumulator(MAX / 2 + 1).multiply(-2).longValue());
+        assertEquals(calculator.divide(MIN, -1), calculator.accumulator(MIN).divide(-1).toNumber());
+        assertEquals(new BigDecimal("0.3333333333333333"),
+                calculator.accumulator(1).divide(3).toNumber());
+        assertThrows(ArithmeticException.class, () -> calculator.accumulator(1).divide(0));
+    }
+
+    @Test
+    void accumulatorAddsProducts() {
+        assertEquals(7L, calculator.accumulator(1).addProduct(2, 3).longValue());
+        assertEquals(calculator.add(1L, calculator.multiply(MAX, 2L)),
+                calculator.accumulator(1).addProduct(MAX, 2).toNumber());
+        assertEquals(calculator.add(MAX, 1L),
+                calculator.accumulator(MAX).addProduct(1, 1).toNumber());
+        assertEquals(MAX, calculator.accumulator(MAX).addProduct(MAX, 2).addProduct(MAX, -2)
+                .longValue());
+    }
+
+    @Test
+    void rejectsNonFiniteOperands() {
+        assertThrows(IllegalArgumentException.class, () -> calculator.add(Double.NaN, 1L));
+        assertThrows(IllegalArgumentException.class,
+                () -> calculator.multiply(2L, Float.POSITIVE_INFINITY));
+    }
+
+    @Test
+    void divisionByZero() {
+        assertThrows(ArithmeticException.class, () -> calculator.divide(1, 0));
+        assertThrows(ArithmeticException.class,
+                () -> calculator.divide(BigInteger.TEN, BigInteger.ZERO));
+        assertThrows(ArithmeticException.class, () -> calculator.divide(1.0, 0L));
+    }
+
+    @Test
+    void unsupportedNumberType() {
+        assertThrows(IllegalArgumentException.class,
+                () -> calculator.add(new AtomicLong(), 1L));
+    }
+}
@@ -0,0 +1,17 @@
+package com.jashburn.junit5.dependencyinjection;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a parameter of a {@link Property @Property} method to be generated anew for each try. See
+ * {@link RandomValues} for the supported types.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PARAMETER)
+public @interface ForAll {
+}
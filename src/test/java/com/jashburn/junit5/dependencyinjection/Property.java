@@ -0,0 +1,41 @@
+package com.jashburn.junit5.dependencyinjection;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * A test that is run for many generated values of its {@link ForAll @ForAll} parameters, and fails
+ * with the simplest counterexample found. See {@link PropertyExtension}.
+ * <p>
+ * All the tries of a property make up a single test: they are invoked one after the other on the
+ * same test instance, within one execution of the test's lifecycle. So {@code @BeforeEach} and
+ * {@code @AfterEach} methods run once around all the tries, not around each one, and the
+ * interceptors of other extensions, such as the one for {@code @Timeout}, apply to none of them.
+ * A property should therefore not depend on state that is reset between tests.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Test
+@ExtendWith(PropertyExtension.class)
+public @interface Property {
+
+    /** Number of generated samples to try. */
+    int tries() default 100;
+
+    /**
+     * Bound on the length of generated strings, arrays and lists, and on the magnitude of
+     * {@code int} and {@code long} values. The bound grows from 1 for the first try to
+     * {@code maxSize} for the last. {@code Integer.MAX_VALUE} generates numbers over their whole
+     * range, with lengths of at most 16.
+     */
+    int maxSize() default 100;
+
+    /** Seed for the samples; 0 derives one from the configuration and the test's unique ID. */
+    long seed() default 0;
+}
@@ -0,0 +1,92 @@
+package com.jashburn.junit5.dependencyinjection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import com.jashburn.junit5.assertions.Calculator;
+import com.jashburn.junit5.assertions.Calculator.Overflow;
+import com.jashburn.junit5.parameterizedtests.StringUtils;
+
+/**
+ * Properties of {@link Calculator} and {@link StringUtils#isPalindrome(String)}, each checked
+ * against many generated values by {@link PropertyExtension}.
+ */
+class PropertyDemo {
+
+    private final Calculator calculator = new Calculator();
+
+    @Property
+    void additionIsCommutative(@ForAll int a, @ForAll int b) {
+        assertEquals(calculator.add(a, b), calculator.add(b, a));
+    }
+
+    @Property(maxSize = Integer.MAX_VALUE)
+    void saturatingAdditionClampsTheExactSum(@ForAll int a, @ForAll int b) {
+        long exact = (long) a + b;
+        long clamped = Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, exact));
+        assertEquals(clamped, calculator.add(a, b, Overflow.SATURATE));
+    }
+
+    @Property(maxSize = Integer.MAX_VALUE)
+    void exactAdditionThrowsIffTheSumOverflows(@ForAll int a, @ForAll int b) {
+        long exact = (long) a + b;
+        if ((int) exact == exact) {
+            assertEquals(exact, calculator.add(a, b, Overflow.THROW));
+        } else {
+            assertThrows(ArithmeticException.class, () -> calculator.add(a, b, Overflow.THROW));
+        }
+    }
+
+    @Property(maxSize = Integer.MAX_VALUE)
+    void divisionRoundsTowardsZero(@ForAll int a, @ForAll int b) {
+        assumeFalse(b == 0);
+        int quotient = calculator.divide(a, b);
+        assertEquals(a, quotient * b + a % b);
+    }
+
+    @Property
+    void bulkAdditionMatchesScalarAddition(@ForAll List<Integer> a) {
+        int[] x = a.stream().mapToInt(Integer::intValue).toArray();
+        int[] y = new int[x.length];
+        for (int i = 0; i < y.length; i++) {
+            y[i] = x[x.length - 1 - i];
+        }
+        int[] sums = new int[x.length];
+        calculator.add(x, y, sums, Overflow.SATURATE);
+        for (int i = 0; i < x.length; i++) {
+            assertEquals(calculator.add(x[i], y[i], Overflow.SATURATE), sums[i]);
+        }
+    }
+
+    @Property
+    void stringFollowedByItsReverseIsAPalindrome(@ForAll String s) {
+        assertTrue(StringUtils.isPalindrome(s + new StringBuilder(s).reverse()));
+    }
+
+    @Property
+    void palindromeIsItsOwnReverse(@ForAll String s) {
+        String reverse = new StringBuilder(s).reverse().toString();
+        assertEquals(s.equals(reverse), StringUtils.isPalindrome(s));
+    }
+
+    @Property
+    void byteAndStringChecksAgree(@ForAll String s) {
+        byte[] bytes = s.getBytes(StandardCharsets.ISO_8859_1);
+        assertEquals(StringUtils.isPalindrome(s), StringUtils.isPalindromeLatin1(bytes));
+        assertEquals(StringUtils.isPalindrome(s),
+                StringUtils.isPalindromeUtf8(ByteBuffer.wrap(bytes)));
+    }
+
+    @Property
+    void changingOneEndBreaksAPalindrome(@ForAll String s) {
+        assumeFalse(s.isEmpty());
+        String palindrome = s + new StringBuilder(s).reverse();
+        char first = palindrome.charAt(0);
+        assertFalse(StringUtils.isPalindrome((char) (first + 1) + palindrome.substring(1)));
+    }
+}
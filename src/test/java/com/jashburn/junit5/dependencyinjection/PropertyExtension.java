@@ -0,0 +1,356 @@
+package com.jashburn.junit5.dependencyinjection;
+
+import static java.util.stream.Collectors.toList;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.commons.support.ReflectionSupport;
+import org.opentest4j.AssertionFailedError;
+import org.opentest4j.TestAbortedException;
+
+/**
+ * Runs {@link Property @Property} methods for many generated values of their
+ * {@link ForAll @ForAll} parameters, building on the {@link ParameterResolver} extension API of
+ * {@link RandomParametersExtension}.
+ * <p>
+ * The parameters are resolved once as usual, but the resolved invocation is skipped by the
+ * {@link InvocationInterceptor}, which instead invokes the method once per try with generated
+ * values in place of the {@code @ForAll} arguments. Other parameters, e.g., {@code TestReporter},
+ * keep their resolved values.
+ * <ul>
+ * <li>The samples for all tries are generated up front, in parallel: each try draws from its own
+ * {@code SplittableRandom}, derived from the seed and its index, so that the samples are the same
+ * whichever thread generates them. The tries themselves run one at a time, in order.</li>
+ * <li>The seed is the {@link Property#seed()}, or is derived from the test's unique ID and the
+ * {@value #SEED_PARAMETER} configuration parameter, a new one on every run by default.</li>
+ * <li>On failure, the failing sample is shrunk: {@link Shrinker} proposes simpler values for one
+ * argument at a time, and the first that still fails is kept, until none does. The test fails with
+ * the shrunk counterexample, and the failure it caused as the cause.</li>
+ * <li>Failing samples are cached in a file per test, in the directory given by the
+ * {@value #CACHE_PARAMETER} configuration parameter ({@value #DEFAULT_CACHE} by default). The next
+ * run tries them first, and the file is deleted once all tries pass.</li>
+ * <li>A try that fails an assumption is discarded; the test is aborted if all of them are.</li>
+ * </ul>
+ * The tries are invoked reflectively within the one resolved invocation, so
+ * {@code @BeforeEach} and {@code @AfterEach} methods run once around all of them, and the
+ * interceptors of other extensions, such as the one for {@code @Timeout}, are bypassed.
+ */
+public class PropertyExtension implements ParameterResolver, InvocationInterceptor {
+
+    /** Configuration parameter for the base seed; a new one on every run if not set. */
+    public static final String SEED_PARAMETER = "junit5.property.seed";
+
+    /** Configuration parameter for the directory of the failing samples. */
+    public static final String CACHE_PARAMETER = "junit5.property.cache";
+
+    static final String DEFAULT_CACHE = "target/property-failures";
+
+    /** Bounds on the search for a simpler counterexample: successful steps, and tries overall. */
+    private static final int MAX_SHRINK_STEPS = 1_000;
+    private static final int MAX_SHRINK_TRIES = 10_000;
+
+    private static final Logger LOGGER = Logger.getLogger(PropertyExtension.class.getName());
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext,
+            ExtensionContext extensionContext) {
+        return parameterContext.isAnnotated(ForAll.class);
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext,
+            ExtensionContext extensionContext) {
+        Type type = parameterContext.getParameter().getParameterizedType();
+        if (!RandomValues.supports(type)) {
+            throw new ParameterResolutionException("No random generator implemented for " + type);
+        }
+        // a placeholder: the resolved invocation is skipped, and each try generates its own value
+        return RandomValues.next(type, new SplittableRandom(0), 0);
+    }
+
+    @Override
+    public void interceptTestMethod(Invocation<Void> invocation,
+            ReflectiveInvocationContext<Method> invocationContext,
+            ExtensionContext extensionContext) throws Throwable {
+        Optional<Property> property =
+                AnnotationSupport.findAnnotation(invocationContext.getExecutable(), Property.class);
+        if (property.isEmpty()) {
+            invocation.proceed();
+            return;
+        }
+        invocation.skip();
+        new PropertyRun(property.get(), invocationContext, extensionContext).execute();
+    }
+
+    /**
+     * The tries of one {@code @Property} method.
+     */
+    private static final class PropertyRun {
+
+        private final Method method;
+        private final Object target;
+        private final Object[] arguments;
+        private final Type[] types;
+        private final int[] forAll;
+        private final int tries;
+        private final int maxSize;
+        private final String base;
+        private final long seed;
+        private final Path cache;
+
+        PropertyRun(Property property, ReflectiveInvocationContext<Method> invocationContext,
+                ExtensionContext extensionContext) {
+            if (property.tries() < 1 || property.maxSize() < 1) {
+                throw new IllegalArgumentException("@Property tries and maxSize must be positive: "
+                        + property.tries() + ", " + property.maxSize());
+            }
+            method = invocationContext.getExecutable();
+            target = invocationContext.getTarget().orElse(null);
+            arguments = invocationContext.getArguments().toArray();
+            Parameter[] parameters = method.getParameters();
+            types = new Type[parameters.length];
+            forAll = IntStream.range(0, parameters.length)
+                    .filter(i -> parameters[i].isAnnotationPresent(ForAll.class)).toArray();
+            for (int p : forAll) {
+                types[p] = parameters[p].getParameterizedType();
+            }
+            tries = property.tries();
+            maxSize = property.maxSize();
+            if (property.seed() != 0) {
+                base = null;
+                seed = property.seed();
+            } else {
+                base = extensionContext.getConfigurationParameter(SEED_PARAMETER)
+                        .orElseGet(() -> Long.toString(System.nanoTime()));
+                seed = RandomValues.seed(parseSeed(base), extensionContext.getUniqueId());
+            }
+            String uniqueId = extensionContext.getUniqueId();
+            cache = Paths
+                    .get(extensionContext.getConfigurationParameter(CACHE_PARAMETER)
+                            .orElse(DEFAULT_CACHE))
+                    .resolve(method.getDeclaringClass().getName() + "." + method.getName() + "-"
+                            + Integer.toHexString(uniqueId.hashCode()) + ".txt");
+        }
+
+        void execute() {
+            for (Sample sample : readCache()) {
+                Object[] values = generate(sample);
+                Throwable failure = invoke(values);
+                if (failure != null && !(failure instanceof TestAbortedException)) {
+                    fail(sample, values, failure);
+                }
+            }
+            List<Object[]> samples = IntStream.range(0, tries).parallel()
+                    .mapToObj(i -> generate(new Sample(seed, i, size(i)))).collect(toList());
+            int discarded = 0;
+            for (int i = 0; i < tries; i++) {
+                Throwable failure = invoke(samples.get(i));
+                if (failure instanceof TestAbortedException) {
+                    discarded++;
+                } else if (failure != null) {
+                    fail(new Sample(seed, i, size(i)), samples.get(i), failure);
+                }
+            }
+            deleteCache();
+            if (discarded == tries) {
+                throw new TestAbortedException(
+                        "All " + tries + " tries were discarded by assumptions");
+            }
+        }
+
+        /** Sizes grow linearly from 1 for the first try to {@code maxSize} for the last. */
+        private int size(int index) {
+            if (maxSize == RandomValues.UNBOUNDED || tries == 1) {
+                return maxSize;
+            }
+            return 1 + (int) ((long) (maxSize - 1) * index / (tries - 1));
+        }
+
+        private Object[] generate(Sample sample) {
+            SplittableRandom random = RandomValues.random(sample.seed, sample.index);
+            Object[] values = arguments.clone();
+            for (int p : forAll) {
+                values[p] = RandomValues.next(types[p], random, sample.size);
+            }
+            return values;
+        }
+
+        /**
+         * @return what the method threw, or {@code null} if it returned normally
+         */
+        private Throwable invoke(Object[] values) {
+            try {
+                ReflectionSupport.invokeMethod(method, target, values);
+                return null;
+            } catch (OutOfMemoryError e) {
+                throw e;
+            } catch (Throwable t) {
+                return t;
+            }
+        }
+
+        private void fail(Sample sample, Object[] values, Throwable failure) {
+            Object[] shrunk = values;
+            Throwable shrunkFailure = failure;
+            int steps = 0;
+            int shrinkTries = 0;
+            boolean simpler = true;
+            while (simpler && steps < MAX_SHRINK_STEPS) {
+                simpler = false;
+                search: for (int p : forAll) {
+                    Iterator<Object> candidates = Shrinker.candidates(shrunk[p]).iterator();
+                    while (candidates.hasNext() && shrinkTries++ < MAX_SHRINK_TRIES) {
+                        Object[] candidate = shrunk.clone();
+                        candidate[p] = candidates.next();
+                        Throwable candidateFailure = invoke(candidate);
+                        if (candidateFailure != null
+                                && !(candidateFailure instanceof TestAbortedException)) {
+                            shrunk = candidate;
+                            shrunkFailure = candidateFailure;
+                            steps++;
+                            simpler = true;
+                            break search;
+                        }
+                    }
+                }
+            }
+            writeCache(sample);
+            String rerun = base == null ? "" : ", rerun with -D" + SEED_PARAMETER + "=" + base;
+            throw new AssertionFailedError(String.format(
+                    "Property falsified by try %d (seed %d, size %d%s): %s, shrunk in %d steps "
+                            + "from %s",
+                    sample.index, sample.seed, sample.size, rerun, describe(shrunk), steps,
+                    describe(values)), shrunkFailure);
+        }
+
+        private String describe(Object[] values) {
+            Object[] generated = new Object[forAll.length];
+            for (int i = 0; i < forAll.length; i++) {
+                generated[i] = values[forAll[i]];
+            }
+            return Arrays.deepToString(generated);
+        }
+
+        private List<Sample> readCache() {
+            List<Sample> samples = new ArrayList<>();
+            if (!Files.exists(cache)) {
+                return samples;
+            }
+            try {
+                for (String line : Files.readAllLines(cache, StandardCharsets.UTF_8)) {
+                    Sample sample = Sample.parse(line);
+                    if (sample != null) {
+                        samples.add(sample);
+                    }
+                }
+            } catch (IOException e) {
+                LOGGER.warning(() -> "Cannot read failing samples from " + cache + ": " + e);
+            }
+            return samples;
+        }
+
+        private void writeCache(Sample sample) {
+            try {
+                if (readCache().stream().anyMatch(sample::equals)) {
+                    return;
+                }
+                Files.createDirectories(cache.getParent());
+                Files.write(cache, List.of(sample.toString()), StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            } catch (IOException e) {
+                LOGGER.warning(() -> "Cannot write failing sample to " + cache + ": " + e);
+            }
+        }
+
+        private void deleteCache() {
+            try {
+                Files.deleteIfExists(cache);
+            } catch (IOException e) {
+                LOGGER.warning(() -> "Cannot delete failing samples in " + cache + ": " + e);
+            }
+        }
+
+        private static long parseSeed(String value) {
+            try {
+                return Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(
+                        "Invalid " + SEED_PARAMETER + " configuration parameter: " + value, e);
+            }
+        }
+    }
+
+    /**
+     * What a try's values are generated from, as cached: one line of seed, index and size.
+     */
+    private static final class Sample {
+
+        final long seed;
+        final int index;
+        final int size;
+
+        Sample(long seed, int index, int size) {
+            this.seed = seed;
+            this.index = index;
+            this.size = size;
+        }
+
+        /**
+         * @return the sample in {@code line}, or {@code null} if it is not one
+         */
+        static Sample parse(String line) {
+            String[] fields = line.trim().split("\\s+");
+            if (fields.length != 3) {
+                return null;
+            }
+            try {
+                return new Sample(Long.parseLong(fields[0]), Integer.parseInt(fields[1]),
+                        Integer.parseInt(fields[2]));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Sample)) {
+                return false;
+            }
+            Sample other = (Sample) obj;
+            return seed == other.seed && index == other.index && size == other.size;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(seed, index, size);
+        }
+
+        @Override
+        public String toString() {
+            return seed + " " + index + " " + size;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.jashburn.junit5.dependencyinjection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.TestExecutionResult.Status;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.core.LauncherConfig;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+
+/**
+ * Runs the nested classes with the {@code Launcher}; being static, they are not run on their own.
+ */
+class PropertyExtensionTests {
+
+    @TempDir
+    Path cache;
+
+    static class FailingProperties {
+
+        @Property(seed = 42)
+        void intsAreSmall(@ForAll int i) {
+            assertTrue(i < 10);
+        }
+
+        @Property(seed = 42)
+        void stringsHaveNoB(@ForAll String s) {
+            assertFalse(s.contains("b"));
+        }
+
+        @Property(seed = 42)
+        void listsAreShort(@ForAll List<Boolean> list) {
+            assertTrue(list.size() < 3);
+        }
+    }
+
+    static class DiscardedProperty {
+
+        @Property
+        void discardsEveryTry(@ForAll int i) {
+            assumeTrue(false);
+        }
+    }
+
+    static class FixableProperty {
+
+        static final List<Integer> seen = new CopyOnWriteArrayList<>();
+        static volatile boolean broken;
+
+        @Property(tries = 5)
+        void check(@ForAll int i) {
+            seen.add(i);
+            assertFalse(broken);
+        }
+    }
+
+    private Map<String, TestExecutionResult> run(Class<?> testClass) {
+        Map<String, TestExecutionResult> results = new ConcurrentHashMap<>();
+        LauncherFactory.create(LauncherConfig.builder()
+                .enableTestExecutionListenerAutoRegistration(false).build())
+                .execute(LauncherDiscoveryRequestBuilder.request().selectors(selectClass(testClass))
+                        .configurationParameter(PropertyExtension.CACHE_PARAMETER,
+                                cache.toString())
+                        .build(), new TestExecutionListener() {
+                            @Override
+                            public void executionFinished(TestIdentifier testIdentifier,
+                                    TestExecutionResult testExecutionResult) {
+                                if (testIdentifier.isTest()) {
+                                    results.put(testIdentifier.getDisplayName(),
+                                            testExecutionResult);
+                                }
+                            }
+                        });
+        return results;
+    }
+
+    private static String message(TestExecutionResult result) {
+        assertEquals(Status.FAILED, result.getStatus());
+        return result.getThrowable().orElseThrow().getMessage();
+    }
+
+    private List<Path> cachedFiles() throws IOException {
+        try (Stream<Path> files = Files.list(cache)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+
+    @Test
+    void failuresAreShrunkToMinimalCounterexamples() {
+        Map<String, TestExecutionResult> results = run(FailingProperties.class);
+        assertTrue(message(results.get("intsAreSmall(int)")).contains(": [10], shrunk"));
+        assertTrue(message(results.get("stringsHaveNoB(String)")).contains(": [b], shrunk"));
+        assertTrue(message(results.get("listsAreShort(List)"))
+                .contains(": [[false, false, false]], shrunk"));
+        assertTrue(results.get("intsAreSmall(int)").getThrowable().orElseThrow()
+                .getCause() instanceof AssertionError);
+    }
+
+    @Test
+    void fixedSeedGivesTheSameFailure() {
+        String first = message(run(FailingProperties.class).get("intsAreSmall(int)"));
+        String second = message(run(FailingProperties.class).get("intsAreSmall(int)"));
+        assertEquals(first, second);
+    }
+
+    @Test
+    void failingSamplesAreCachedAndReplayedFirst() throws IOException {
+        FixableProperty.seen.clear();
+        FixableProperty.broken = true;
+        assertEquals(Status.FAILED, run(FixableProperty.class).get("check(int)").getStatus());
+        int failing = FixableProperty.seen.get(0);
+        assertEquals(1, cachedFiles().size());
+
+        FixableProperty.seen.clear();
+        FixableProperty.broken = false;
+        assertEquals(Status.SUCCESSFUL, run(FixableProperty.class).get("check(int)").getStatus());
+        assertEquals(failing, FixableProperty.seen.get(0));
+        assertEquals(1 + 5, FixableProperty.seen.size());
+        assertTrue(cachedFiles().isEmpty());
+    }
+
+    @Test
+    void allTriesDiscardedAbortsTheTest() {
+        assertEquals(Status.ABORTED,
+                run(DiscardedProperty.class).get("discardsEveryTry(int)").getStatus());
+    }
+
+    @Test
+    void generationIsIndependentOfTheThread() {
+        List<Object> sequential = Stream.iterate(0, i -> i + 1).limit(1_000)
+                .map(i -> RandomValues.next(String.class, RandomValues.random(42, i), 10))
+                .collect(Collectors.toList());
+        List<Object> parallel = Stream.iterate(0, i -> i + 1).limit(1_000).parallel()
+                .map(i -> RandomValues.next(String.class, RandomValues.random(42, i), 10))
+                .collect(Collectors.toList());
+        assertEquals(sequential, parallel);
+    }
+
+    @Test
+    void shrinkerProposesSimplerValues() {
+        assertEquals(List.of(), Shrinker.candidates(0).collect(Collectors.toList()));
+        assertEquals(List.of(0, 5, 9), Shrinker.candidates(10).collect(Collectors.toList()));
+        assertEquals(List.of(0L, -1L), Shrinker.candidates(-2L).collect(Collectors.toList()));
+        assertEquals(List.of(false), Shrinker.candidates(true).collect(Collectors.toList()));
+        assertEquals(List.of("", "a", "b", "b", "a", "aa"),
+                Shrinker.candidates("ab").collect(Collectors.toList()));
+        assertTrue(Shrinker.candidates(new int[] {3}).map(int[].class::cast)
+                .anyMatch(array -> array.length == 1 && array[0] == 0));
+        assertTrue(Shrinker.candidates(RandomValues.next(double.class, new SplittableRandom(), 1))
+                .anyMatch(Double.valueOf(0.0)::equals));
+    }
+}
@@ -13,19 +13,34 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
-import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
 
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
 import org.junit.jupiter.api.extension.ParameterContext;
 import org.junit.jupiter.api.extension.ParameterResolutionException;
 import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.jupiter.api.extension.TestExecutionExceptionHandler;
 
 /**
  * {@code RandomParametersExtension} showcases the {@link ParameterResolver} extension API of JUnit
  * 5 by providing injection support for random values at the method parameter level.
  *
  * <p>
+ * Supports the types generated by {@link RandomValues}: {@code int}, {@code long}, {@code float},
+ * {@code double}, {@code boolean}, {@code String}, and arrays and {@code List}s of these.
+ *
+ * <p>
+ * Each test draws its values from its own {@link SplittableRandom}, seeded from the
+ * {@value #SEED_PARAMETER} configuration parameter (0 by default, or {@code random} for a new seed
+ * on every run) and the test's unique ID, so that a test gets the same values on every run,
+ * whatever else runs before or alongside it. The seed is kept in the test's own store, with no
+ * state shared between tests, and is logged and published as a report entry when the test fails.
+ *
+ * <p>
  * For real world use cases for this and other extension points, check out the extensions provided
  * by the Spring and Mockito projects among others.
  *
@@ -37,7 +52,15 @@ import org.junit.jupiter.api.extension.ParameterResolver;
  * Source:
  * https://github.com/junit-team/junit5-samples/blob/r5.6.2/junit5-jupiter-extensions/src/main/java/com/example/random/RandomParametersExtension.java
  */
-public class RandomParametersExtension implements ParameterResolver {
+public class RandomParametersExtension implements ParameterResolver, TestExecutionExceptionHandler {
+
+    /** Configuration parameter for the base seed: a {@code long}, or {@code random}. */
+    public static final String SEED_PARAMETER = "junit5.random.seed";
+
+    private static final Namespace NAMESPACE = Namespace.create(RandomParametersExtension.class);
+
+    private static final Logger LOGGER =
+            Logger.getLogger(RandomParametersExtension.class.getName());
 
     @Retention(RetentionPolicy.RUNTIME)
     @Target(ElementType.PARAMETER)
@@ -53,20 +76,69 @@ public class RandomParametersExtension implements ParameterResolver {
     @Override
     public Object resolveParameter(ParameterContext parameterContext,
             ExtensionContext extensionContext) {
-        return getRandomValue(parameterContext.getParameter(), extensionContext);
+        Type type = parameterContext.getParameter().getParameterizedType();
+        if (!RandomValues.supports(type)) {
+            throw new ParameterResolutionException("No random generator implemented for " + type);
+        }
+        return RandomValues.next(type, seedOf(extensionContext).nextRandom(),
+                RandomValues.UNBOUNDED);
     }
 
-    private Object getRandomValue(Parameter parameter, ExtensionContext extensionContext) {
-        Class<?> type = parameter.getType();
-        java.util.Random random = extensionContext.getRoot().getStore(Namespace.GLOBAL)
-                .getOrComputeIfAbsent(java.util.Random.class);
-        if (int.class.equals(type)) {
-            return random.nextInt();
+    @Override
+    public void handleTestExecutionException(ExtensionContext context, Throwable throwable)
+            throws Throwable {
+        Seed seed = context.getStore(NAMESPACE).get(Seed.class, Seed.class);
+        if (seed != null) {
+            String message =
+                    seed.testSeed + " (rerun with -D" + SEED_PARAMETER + "=" + seed.base + ")";
+            context.publishReportEntry("random.seed", message);
+            LOGGER.warning(() -> context.getDisplayName() + " failed with random seed " + message);
         }
-        if (double.class.equals(type)) {
-            return random.nextDouble();
+        throw throwable;
+    }
+
+    /**
+     * The seed of the test (or, for constructor and {@code @BeforeAll} parameters, the class) in
+     * {@code context}, created on first use.
+     */
+    private static Seed seedOf(ExtensionContext context) {
+        return context.getStore(NAMESPACE).getOrComputeIfAbsent(Seed.class, key -> {
+            long base = context.getConfigurationParameter(SEED_PARAMETER)
+                    .map(RandomParametersExtension::parseSeed).orElse(0L);
+            return new Seed(base, RandomValues.seed(base, context.getUniqueId()));
+        }, Seed.class);
+    }
+
+    private static long parseSeed(String value) {
+        if ("random".equalsIgnoreCase(value.trim())) {
+            return System.nanoTime();
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new ParameterResolutionException(
+                    "Invalid " + SEED_PARAMETER + " configuration parameter: " + value, e);
+        }
+    }
+
+    /**
+     * A test's seed. Each value is drawn from its own generator, derived from the seed and the
+     * number of values drawn so far, so that concurrent draws need no lock.
+     */
+    private static final class Seed {
+
+        final long base;
+        final long testSeed;
+        private final AtomicLong draws = new AtomicLong();
+
+        Seed(long base, long testSeed) {
+            this.base = base;
+            this.testSeed = testSeed;
+        }
+
+        SplittableRandom nextRandom() {
+            return RandomValues.random(testSeed, draws.getAndIncrement());
         }
-        throw new ParameterResolutionException("No random generator implemented for " + type);
     }
 
 }
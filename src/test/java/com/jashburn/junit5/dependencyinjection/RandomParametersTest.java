@@ -1,9 +1,14 @@
 package com.jashburn.junit5.dependencyinjection;
 
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import com.jashburn.junit5.dependencyinjection.RandomParametersExtension.Random;
+import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestReporter;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -22,4 +27,33 @@ class RandomParametersTest {
         reporter.publishEntry("d", Double.toString(d));
         assertEquals(0.0, d, 1.0);
     }
+
+    @Test
+    void injectsLongFloatAndBoolean(TestReporter reporter, @Random long l, @Random float f,
+            @Random boolean b) {
+        reporter.publishEntry("b", Boolean.toString(b));
+        assertAll(() -> assertNotEquals(0L, l), () -> assertTrue(f >= 0.0f && f < 1.0f));
+    }
+
+    @Test
+    void injectsString(TestReporter reporter, @Random String s) {
+        reporter.publishEntry("s", s);
+        assertTrue(s.length() <= RandomValues.DEFAULT_LENGTH);
+        assertTrue(s.chars().allMatch(c -> c >= 'a' && c <= 'z'), s);
+    }
+
+    @Test
+    void injectsArraysAndLists(TestReporter reporter, @Random int[] ints,
+            @Random List<String> strings, @Random List<double[]> doubles) {
+        reporter.publishEntry(Map.of("ints", Arrays.toString(ints), "strings", strings.toString()));
+        assertTrue(ints.length <= RandomValues.DEFAULT_LENGTH);
+        assertTrue(strings.stream().allMatch(String.class::isInstance));
+        assertTrue(doubles.stream().flatMapToDouble(Arrays::stream).allMatch(d -> d < 1.0));
+    }
+
+    // each repetition has its own unique ID, and so its own seed
+    @RepeatedTest(3)
+    void injectsDifferentValuesPerTest(@Random long l, TestReporter reporter) {
+        reporter.publishEntry("l", Long.toString(l));
+    }
 }
@@ -0,0 +1,180 @@
+package com.jashburn.junit5.dependencyinjection;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Generates random values of the types supported by {@link RandomParametersExtension}: the
+ * primitives {@code int}, {@code long}, {@code float}, {@code double} and {@code boolean} (and
+ * their wrappers), {@code String}, and arrays and {@code List}s of any supported type, including
+ * nested ones.
+ * <p>
+ * {@code size} bounds the length of strings, arrays and lists, and the magnitude of {@code int}
+ * and {@code long} values when it is not {@link #UNBOUNDED}. Strings are made of the lowercase
+ * letters {@code a} to {@code z}, and {@code float} and {@code double} values are between 0
+ * (inclusive) and 1 (exclusive).
+ */
+final class RandomValues {
+
+    /** A size that puts no bound on the magnitude of {@code int} and {@code long} values. */
+    static final int UNBOUNDED = Integer.MAX_VALUE;
+
+    /** Default bound on the length of strings, arrays and lists. */
+    static final int DEFAULT_LENGTH = 16;
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private RandomValues() {}
+
+    /**
+     * @return whether values of {@code type} can be generated
+     */
+    static boolean supports(Type type) {
+        if (type instanceof Class) {
+            Class<?> clazz = (Class<?>) type;
+            if (clazz.isArray()) {
+                return supports(clazz.getComponentType());
+            }
+            return clazz == int.class || clazz == Integer.class || clazz == long.class
+                    || clazz == Long.class || clazz == float.class || clazz == Float.class
+                    || clazz == double.class || clazz == Double.class || clazz == boolean.class
+                    || clazz == Boolean.class || clazz == String.class;
+        }
+        if (type instanceof GenericArrayType) {
+            return supports(((GenericArrayType) type).getGenericComponentType());
+        }
+        Type element = listElementType(type);
+        return element != null && supports(element);
+    }
+
+    /**
+     * Generates a value of {@code type}, with strings, arrays and lists of at most
+     * {@code size} elements (or {@link #DEFAULT_LENGTH} if {@code size} is {@link #UNBOUNDED}).
+     *
+     * @throws IllegalArgumentException if {@code type} is not {@linkplain #supports(Type)
+     *         supported}
+     */
+    static Object next(Type type, SplittableRandom random, int size) {
+        if (type instanceof Class) {
+            Class<?> clazz = (Class<?>) type;
+            if (clazz.isArray()) {
+                return nextArray(clazz.getComponentType(), clazz.getComponentType(), random, size);
+            }
+            if (clazz == int.class || clazz == Integer.class) {
+                return size == UNBOUNDED ? random.nextInt() : random.nextInt(-size, size + 1);
+            }
+            if (clazz == long.class || clazz == Long.class) {
+                return size == UNBOUNDED ? random.nextLong() : random.nextLong(-size, size + 1L);
+            }
+            if (clazz == float.class || clazz == Float.class) {
+                // the top 24 bits, so that every value is exactly representable and below 1
+                return (random.nextInt() >>> 8) * 0x1.0p-24f;
+            }
+            if (clazz == double.class || clazz == Double.class) {
+                return random.nextDouble();
+            }
+            if (clazz == boolean.class || clazz == Boolean.class) {
+                return random.nextBoolean();
+            }
+            if (clazz == String.class) {
+                char[] chars = new char[length(random, size)];
+                for (int i = 0; i < chars.length; i++) {
+                    chars[i] = (char) ('a' + random.nextInt(26));
+                }
+                return new String(chars);
+            }
+        } else if (type instanceof GenericArrayType) {
+            Type component = ((GenericArrayType) type).getGenericComponentType();
+            return nextArray(component, rawType(component), random, size);
+        } else {
+            Type element = listElementType(type);
+            if (element != null) {
+                int length = length(random, size);
+                List<Object> list = new ArrayList<>(length);
+                for (int i = 0; i < length; i++) {
+                    list.add(next(element, random, size));
+                }
+                return list;
+            }
+        }
+        throw new IllegalArgumentException("No random generator implemented for " + type);
+    }
+
+    /**
+     * Derives a test's seed from a base seed and its unique ID, so that each test gets its own
+     * sequence, the same one on every run with the same base seed.
+     */
+    static long seed(long base, String uniqueId) {
+        // 64-bit FNV-1a, then the SplittableRandom finalizer to spread the bits
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < uniqueId.length(); i++) {
+            hash = (hash ^ uniqueId.charAt(i)) * 0x100000001B3L;
+        }
+        return mix64(base + GOLDEN_GAMMA * hash);
+    }
+
+    /**
+     * @return a generator for the {@code index}th value drawn from {@code seed}, independent of
+     *         the order in which values are drawn
+     */
+    static SplittableRandom random(long seed, long index) {
+        return new SplittableRandom(mix64(seed + GOLDEN_GAMMA * (index + 1)));
+    }
+
+    private static Object nextArray(Type component, Class<?> rawComponent,
+            SplittableRandom random, int size) {
+        int length = length(random, size);
+        Object array = Array.newInstance(rawComponent, length);
+        for (int i = 0; i < length; i++) {
+            Array.set(array, i, next(component, random, size));
+        }
+        return array;
+    }
+
+    private static int length(SplittableRandom random, int size) {
+        return random.nextInt((size == UNBOUNDED ? DEFAULT_LENGTH : size) + 1);
+    }
+
+    /**
+     * @return the element type of a parameterized {@code List}, or {@code null} if {@code type}
+     *         is not one
+     */
+    private static Type listElementType(Type type) {
+        if (!(type instanceof ParameterizedType)
+                || ((ParameterizedType) type).getRawType() != List.class) {
+            return null;
+        }
+        Type element = ((ParameterizedType) type).getActualTypeArguments()[0];
+        if (element instanceof WildcardType) {
+            Type[] upper = ((WildcardType) element).getUpperBounds();
+            element = ((WildcardType) element).getLowerBounds().length == 0 ? upper[0] : null;
+        }
+        return element;
+    }
+
+    private static Class<?> rawType(Type type) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        }
+        if (type instanceof ParameterizedType) {
+            return (Class<?>) ((ParameterizedType) type).getRawType();
+        }
+        if (type instanceof GenericArrayType) {
+            Class<?> component = rawType(((GenericArrayType) type).getGenericComponentType());
+            return Array.newInstance(component, 0).getClass();
+        }
+        throw new IllegalArgumentException("No random generator implemented for " + type);
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,74 @@
+package com.jashburn.junit5.dependencyinjection;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class RandomValuesTests {
+
+    // fields for their generic types
+    List<String> strings;
+    List<? extends List<Integer>> nested;
+    List<Boolean>[] arrayOfLists;
+    Map<String, String> map;
+
+    private static Type typeOf(String field) throws NoSuchFieldException {
+        return RandomValuesTests.class.getDeclaredField(field).getGenericType();
+    }
+
+    @Test
+    void sameSeedAndIndexGiveTheSameValues() throws NoSuchFieldException {
+        long seed = RandomValues.seed(42, "[engine:junit-jupiter]/[class:Foo]/[method:bar()]");
+        for (long index = 0; index < 10; index++) {
+            assertEquals(RandomValues.next(typeOf("strings"), RandomValues.random(seed, index), 8),
+                    RandomValues.next(typeOf("strings"), RandomValues.random(seed, index), 8));
+            assertArrayEquals(
+                    (long[]) RandomValues.next(long[].class, RandomValues.random(seed, index), 8),
+                    (long[]) RandomValues.next(long[].class, RandomValues.random(seed, index), 8));
+        }
+    }
+
+    @Test
+    void seedDependsOnBaseAndUniqueId() {
+        String id = "[engine:junit-jupiter]/[class:Foo]/[method:bar()]";
+        assertEquals(RandomValues.seed(0, id), RandomValues.seed(0, id));
+        assertNotEquals(RandomValues.seed(0, id), RandomValues.seed(1, id));
+        assertNotEquals(RandomValues.seed(0, id), RandomValues.seed(0, id + "x"));
+    }
+
+    @Test
+    void sizeBoundsLengthsAndMagnitudes() throws NoSuchFieldException {
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < 1_000; i++) {
+            int value = (int) RandomValues.next(int.class, random, 3);
+            assertTrue(value >= -3 && value <= 3, () -> Integer.toString(value));
+            List<?> nested = (List<?>) RandomValues.next(typeOf("nested"), random, 3);
+            assertTrue(nested.size() <= 3);
+            nested.forEach(list -> assertTrue(((List<?>) list).size() <= 3));
+        }
+    }
+
+    @Test
+    void generatesGenericArrays() throws NoSuchFieldException {
+        Object array = RandomValues.next(typeOf("arrayOfLists"), new SplittableRandom(1), 4);
+        assertTrue(array instanceof List[]);
+    }
+
+    @Test
+    void rejectsUnsupportedTypes() throws NoSuchFieldException {
+        assertFalse(RandomValues.supports(Object.class));
+        assertFalse(RandomValues.supports(List.class));
+        assertFalse(RandomValues.supports(typeOf("map")));
+        assertTrue(RandomValues.supports(typeOf("arrayOfLists")));
+        assertThrows(IllegalArgumentException.class,
+                () -> RandomValues.next(typeOf("map"), new SplittableRandom(), 4));
+    }
+}
@@ -0,0 +1,117 @@
+package com.jashburn.junit5.dependencyinjection;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Proposes simpler versions of the values generated by {@link RandomValues}, for
+ * {@link PropertyExtension} to find a minimal counterexample. Candidates are produced lazily and
+ * simplest first: zero, {@code false} or empty, then halves, then single steps, so that a greedy
+ * search that takes the first candidate that still fails converges quickly.
+ */
+final class Shrinker {
+
+    private Shrinker() {}
+
+    /**
+     * @return values simpler than {@code value}, none of them equal to it; empty if there are none
+     */
+    static Stream<Object> candidates(Object value) {
+        if (value instanceof Integer) {
+            return towardsZero((Integer) value).<Object>map(Math::toIntExact);
+        }
+        if (value instanceof Long) {
+            return towardsZero((Long) value).map(Object.class::cast);
+        }
+        if (value instanceof Double) {
+            double v = (Double) value;
+            return v == 0.0 ? Stream.empty() : Stream.of(0.0, (double) (long) v, v / 2)
+                    .filter(c -> c != v).distinct().map(Object.class::cast);
+        }
+        if (value instanceof Float) {
+            float v = (Float) value;
+            return v == 0.0f ? Stream.empty() : Stream.of(0.0f, (float) (long) v, v / 2)
+                    .filter(c -> c != v).distinct().map(Object.class::cast);
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? Stream.of(false) : Stream.empty();
+        }
+        if (value instanceof String) {
+            String s = (String) value;
+            Stream<Object> simpler = IntStream.range(0, s.length()).filter(i -> s.charAt(i) > 'a')
+                    .mapToObj(i -> s.substring(0, i) + 'a' + s.substring(i + 1));
+            return Stream.concat(shorter(s.length(), s::substring,
+                    i -> s.substring(0, i) + s.substring(i + 1)), simpler);
+        }
+        if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            return Stream.concat(shorter(list.size(),
+                    (from, to) -> new ArrayList<>(list.subList(from, to)), i -> without(list, i)),
+                    shrinkElements(list));
+        }
+        if (value != null && value.getClass().isArray()) {
+            List<Object> elements = new ArrayList<>();
+            for (int i = 0; i < Array.getLength(value); i++) {
+                elements.add(Array.get(value, i));
+            }
+            Class<?> componentType = value.getClass().getComponentType();
+            return candidates(elements).map(list -> toArray((List<?>) list, componentType));
+        }
+        return Stream.empty();
+    }
+
+    private static Stream<Long> towardsZero(long v) {
+        if (v == 0) {
+            return Stream.empty();
+        }
+        return Stream.of(0L, v / 2, v - Long.signum(v)).filter(c -> c != v).distinct();
+    }
+
+    /** Sub-ranges and removals of one element, for sequences of {@code length} elements. */
+    private static Stream<Object> shorter(int length, SubRange subRange, Removal removal) {
+        if (length == 0) {
+            return Stream.empty();
+        }
+        Stream<Object> halves = length < 2 ? Stream.empty()
+                : Stream.of(subRange.of(0, length / 2), subRange.of(length / 2, length));
+        Stream<Object> removals = length < 2 ? Stream.empty()
+                : IntStream.range(0, length).mapToObj(removal::without);
+        return Stream.concat(Stream.concat(Stream.of(subRange.of(0, 0)), halves), removals);
+    }
+
+    private static Stream<Object> shrinkElements(List<?> list) {
+        return IntStream.range(0, list.size()).boxed().flatMap(i -> candidates(list.get(i))
+                .map(element -> {
+                    List<Object> copy = new ArrayList<>(list);
+                    copy.set(i, element);
+                    return copy;
+                }));
+    }
+
+    private static List<Object> without(List<?> list, int index) {
+        List<Object> copy = new ArrayList<>(list);
+        copy.remove(index);
+        return copy;
+    }
+
+    private static Object toArray(List<?> list, Class<?> componentType) {
+        Object array = Array.newInstance(componentType, list.size());
+        for (int i = 0; i < list.size(); i++) {
+            Array.set(array, i, list.get(i));
+        }
+        return array;
+    }
+
+    @FunctionalInterface
+    private interface SubRange {
+        Object of(int from, int to);
+    }
+
+    @FunctionalInterface
+    private interface Removal {
+        Object without(int index);
+    }
+}
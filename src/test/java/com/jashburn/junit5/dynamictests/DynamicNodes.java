@@ -0,0 +1,215 @@
+package com.jashburn.junit5.dynamictests;
+
+import static org.junit.jupiter.api.DynamicContainer.dynamicContainer;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.junit.jupiter.api.DynamicContainer;
+import org.junit.jupiter.api.DynamicNode;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.function.ThrowingConsumer;
+
+/**
+ * Lazily generated {@code DynamicNode}s for {@code @TestFactory} methods with very many tests.
+ * <p>
+ * Jupiter pulls the nodes of a {@code Stream} one at a time, executing each before pulling the
+ * next, and only traverses a container's children when the container is executed. The streams
+ * returned here create each node, including its display name and {@code Executable}, when it is
+ * pulled, just before it is reported, so nothing is built up front:
+ * <ul>
+ * <li>{@link #tests(Spliterator, Function, ThrowingConsumer)} maps each input to a test as it is
+ * pulled, like {@code DynamicTest.stream()} for a {@code Spliterator} instead of an
+ * {@code Iterator}.</li>
+ * <li>{@link #chunks(Spliterator, int, ChunkNamer, Function, ThrowingConsumer)} groups the tests
+ * into containers of at most {@code chunkSize} inputs. The source is only read one chunk ahead of
+ * the tests being executed. {@link #intChunks(Spliterator.OfInt, int, ChunkNamer, IntFunction,
+ * IntExecutable)} buffers the inputs of a chunk in an {@code int[]}, e.g., from a
+ * {@link Progression}, without boxing them.</li>
+ * <li>{@link #container(String, Supplier, Function)} creates the source of a container's children
+ * only when the container is executed, so that a nested tree is streamed level by level rather
+ * than materialized.</li>
+ * </ul>
+ */
+final class DynamicNodes {
+
+    /**
+     * Names a chunk of tests by the zero-based indices of its first and last inputs.
+     */
+    @FunctionalInterface
+    interface ChunkNamer {
+        String name(long first, long last);
+    }
+
+    /**
+     * A {@code ThrowingConsumer} for primitive {@code int} inputs.
+     */
+    @FunctionalInterface
+    interface IntExecutable {
+        void accept(int input) throws Throwable;
+    }
+
+    /** Names chunks as {@code "inputs 0 to 999"}, etc. */
+    static final ChunkNamer INDEX_RANGE = (first, last) -> "inputs " + first + " to " + last;
+
+    private DynamicNodes() {}
+
+    /**
+     * @return a stream of a test per input of {@code source}, each created as it is pulled
+     */
+    static <T> Stream<DynamicTest> tests(Spliterator<T> source,
+            Function<? super T, String> displayNameGenerator,
+            ThrowingConsumer<? super T> testExecutor) {
+        return StreamSupport.stream(source, false).map(input -> dynamicTest(
+                displayNameGenerator.apply(input), () -> testExecutor.accept(input)));
+    }
+
+    /**
+     * @return a stream of containers of at most {@code chunkSize} tests each, one per input of
+     *         {@code source}
+     * @throws IllegalArgumentException if {@code chunkSize} is not positive
+     */
+    static <T> Stream<DynamicContainer> chunks(Spliterator<T> source, int chunkSize,
+            ChunkNamer chunkNamer, Function<? super T, String> displayNameGenerator,
+            ThrowingConsumer<? super T> testExecutor) {
+        checkChunkSize(chunkSize);
+        return StreamSupport.stream(new ChunkSpliterator<>(source, chunkSize, chunkNamer,
+                displayNameGenerator, testExecutor), false);
+    }
+
+    /**
+     * Same as {@link #chunks(Spliterator, int, ChunkNamer, Function, ThrowingConsumer)}, for
+     * primitive {@code int} inputs, which are buffered without boxing.
+     *
+     * @throws IllegalArgumentException if {@code chunkSize} is not positive
+     */
+    static Stream<DynamicContainer> intChunks(Spliterator.OfInt source, int chunkSize,
+            ChunkNamer chunkNamer, IntFunction<String> displayNameGenerator,
+            IntExecutable testExecutor) {
+        checkChunkSize(chunkSize);
+        return StreamSupport.stream(new IntChunkSpliterator(source, chunkSize, chunkNamer,
+                displayNameGenerator, testExecutor), false);
+    }
+
+    /**
+     * @param children called when the container is executed, for the inputs of its children
+     * @param nodeGenerator the child node for an input, e.g., a test, or a container made by this
+     *        method for the next level of a tree
+     */
+    static <T> DynamicContainer container(String displayName,
+            Supplier<? extends Spliterator<T>> children,
+            Function<? super T, ? extends DynamicNode> nodeGenerator) {
+        return dynamicContainer(displayName,
+                StreamSupport.stream(children, Spliterator.ORDERED, false).map(nodeGenerator));
+    }
+
+    private static void checkChunkSize(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+    }
+
+    private static long chunkCount(Spliterator<?> source, int chunkSize) {
+        long size = source.estimateSize();
+        return size == Long.MAX_VALUE ? size : (size + chunkSize - 1) / chunkSize;
+    }
+
+    private static final class ChunkSpliterator<T>
+            extends Spliterators.AbstractSpliterator<DynamicContainer> {
+
+        private final Spliterator<T> source;
+        private final int chunkSize;
+        private final ChunkNamer chunkNamer;
+        private final Function<? super T, String> displayNameGenerator;
+        private final ThrowingConsumer<? super T> testExecutor;
+        private long index;
+
+        ChunkSpliterator(Spliterator<T> source, int chunkSize, ChunkNamer chunkNamer,
+                Function<? super T, String> displayNameGenerator,
+                ThrowingConsumer<? super T> testExecutor) {
+            super(chunkCount(source, chunkSize), Spliterator.ORDERED | Spliterator.NONNULL);
+            this.source = source;
+            this.chunkSize = chunkSize;
+            this.chunkNamer = chunkNamer;
+            this.displayNameGenerator = displayNameGenerator;
+            this.testExecutor = testExecutor;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super DynamicContainer> action) {
+            // a new list per chunk, as the previous chunk's tests may not all have been pulled
+            List<T> chunk = new ArrayList<>(Math.min(chunkSize, 1024));
+            Consumer<T> add = chunk::add;
+            while (chunk.size() < chunkSize && source.tryAdvance(add)) {
+                // reads the next input into the chunk
+            }
+            if (chunk.isEmpty()) {
+                return false;
+            }
+            long first = index;
+            index += chunk.size();
+            action.accept(dynamicContainer(chunkNamer.name(first, index - 1),
+                    tests(chunk.spliterator(), displayNameGenerator, testExecutor)));
+            return true;
+        }
+    }
+
+    private static final class IntChunkSpliterator
+            extends Spliterators.AbstractSpliterator<DynamicContainer> implements IntConsumer {
+
+        private final Spliterator.OfInt source;
+        private final int chunkSize;
+        private final ChunkNamer chunkNamer;
+        private final IntFunction<String> displayNameGenerator;
+        private final IntExecutable testExecutor;
+        private long index;
+        private int[] buffer;
+        private int count;
+
+        IntChunkSpliterator(Spliterator.OfInt source, int chunkSize, ChunkNamer chunkNamer,
+                IntFunction<String> displayNameGenerator, IntExecutable testExecutor) {
+            super(chunkCount(source, chunkSize), Spliterator.ORDERED | Spliterator.NONNULL);
+            this.source = source;
+            this.chunkSize = chunkSize;
+            this.chunkNamer = chunkNamer;
+            this.displayNameGenerator = displayNameGenerator;
+            this.testExecutor = testExecutor;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super DynamicContainer> action) {
+            // a new buffer per chunk, as the previous chunk's tests may not all have been pulled
+            buffer = new int[(int) Math.min(chunkSize, Math.max(1, source.estimateSize()))];
+            count = 0;
+            while (count < chunkSize && source.tryAdvance(this)) {
+                // reads the next input into the buffer
+            }
+            if (count == 0) {
+                return false;
+            }
+            long first = index;
+            index += count;
+            action.accept(dynamicContainer(chunkNamer.name(first, index - 1),
+                    Arrays.stream(buffer, 0, count).mapToObj(input -> dynamicTest(
+                            displayNameGenerator.apply(input), () -> testExecutor.accept(input)))));
+            return true;
+        }
+
+        @Override
+        public void accept(int input) {
+            if (count == buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.min(chunkSize, buffer.length * 2));
+            }
+            buffer[count++] = input;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.jashburn.junit5.dynamictests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DynamicContainer;
+import org.junit.jupiter.api.DynamicNode;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+
+class DynamicNodesTests {
+
+    private final AtomicInteger read = new AtomicInteger();
+    private final AtomicInteger named = new AtomicInteger();
+    private final AtomicInteger executed = new AtomicInteger();
+
+    /** A source of {@code 0} to {@code size - 1} that counts the inputs read from it. */
+    private Spliterator<Integer> counting(int size) {
+        return IntStream.range(0, size).peek(i -> read.incrementAndGet()).boxed().spliterator();
+    }
+
+    private String name(Object input) {
+        named.incrementAndGet();
+        return "input " + input;
+    }
+
+    private static List<DynamicTest> children(DynamicNode container) {
+        return ((DynamicContainer) container).getChildren().map(DynamicTest.class::cast)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void testsAreCreatedAsTheyArePulled() throws Throwable {
+        Iterator<DynamicTest> tests =
+                DynamicNodes.tests(counting(1_000), this::name, i -> executed.incrementAndGet())
+                        .iterator();
+        assertEquals(0, named.get());
+        DynamicTest first = tests.next();
+        assertEquals("input 0", first.getDisplayName());
+        assertEquals(1, named.get());
+        first.getExecutable().execute();
+        assertEquals(1, executed.get());
+    }
+
+    @Test
+    void chunksReadTheSourceOneChunkAtATime() {
+        Iterator<DynamicContainer> chunks = DynamicNodes.chunks(counting(250), 100,
+                DynamicNodes.INDEX_RANGE, this::name, i -> {}).iterator();
+        DynamicContainer first = chunks.next();
+        assertEquals("inputs 0 to 99", first.getDisplayName());
+        assertEquals(100, read.get());
+        assertEquals(0, named.get());
+        assertEquals(100, children(first).size());
+        assertEquals(100, named.get());
+
+        assertEquals("inputs 100 to 199", chunks.next().getDisplayName());
+        assertEquals(200, read.get());
+        DynamicContainer last = chunks.next();
+        assertEquals("inputs 200 to 249", last.getDisplayName());
+        assertEquals("input 249", children(last).get(49).getDisplayName());
+        assertFalse(chunks.hasNext());
+    }
+
+    @Test
+    void intChunksBufferPrimitives() throws Throwable {
+        Progression evens = EvenNumbersGenerator.evens(0, 2_000);
+        List<DynamicContainer> chunks = DynamicNodes.intChunks(evens.intSpliterator(), 300,
+                (first, last) -> first + ".." + last, input -> "input " + input,
+                input -> executed.addAndGet(input)).collect(Collectors.toList());
+        assertEquals(List.of("0..299", "300..599", "600..899", "900..999"),
+                chunks.stream().map(DynamicNode::getDisplayName).collect(Collectors.toList()));
+        int sum = 0;
+        for (DynamicContainer chunk : chunks) {
+            for (DynamicTest test : children(chunk)) {
+                test.getExecutable().execute();
+            }
+        }
+        for (int i = 0; i < 2_000; i += 2) {
+            sum += i;
+        }
+        assertEquals(sum, executed.get());
+    }
+
+    @Test
+    void emptySourceHasNoChunks() {
+        assertEquals(0, DynamicNodes.chunks(counting(0), 10, DynamicNodes.INDEX_RANGE,
+                this::name, i -> {}).count());
+        assertEquals(0, DynamicNodes.intChunks(IntStream.empty().spliterator(), 10,
+                DynamicNodes.INDEX_RANGE, input -> "", input -> {}).count());
+    }
+
+    @Test
+    void containerChildrenAreCreatedWhenTraversed() {
+        DynamicContainer container = DynamicNodes.container("tree", () -> counting(3),
+                i -> dynamicTest(name(i), () -> {}));
+        assertEquals(0, read.get());
+        Stream<? extends DynamicNode> children = container.getChildren();
+        assertEquals(0, read.get());
+        assertEquals(3, children.count());
+        assertEquals(3, read.get());
+    }
+
+    @Test
+    void chunkSizeMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> DynamicNodes.chunks(counting(1), 0,
+                DynamicNodes.INDEX_RANGE, this::name, i -> {}));
+    }
+}
@@ -14,6 +14,7 @@ import java.util.stream.Stream;
 import com.jashburn.junit5.parameterizedtests.StringUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DynamicContainer;
 import org.junit.jupiter.api.DynamicNode;
 import org.junit.jupiter.api.DynamicTest;
 import org.junit.jupiter.api.TestFactory;
@@ -27,7 +28,8 @@ import org.junit.jupiter.api.function.ThrowingConsumer;
  * Run using:
  * <code>java -jar /path/to/junit-platform-console-standalone-1.6.2.jar --class-path='target/test-classes;target/classes' --scan-class-path --include-package='com.jashburn.junit5.dynamictests' --include-classname='.*'</code>
  * <p>
- * Output:
+ * Output, with runs of more than five dynamic nodes abbreviated to their first two and last.
+ * The lazilyNestedDynamicContainers() and chunkedDynamicTests() entries come from a later run:
  * 
  * <pre>
  │  └─ DynamicTestsDemo ✔
@@ -77,6 +79,42 @@ import org.junit.jupiter.api.function.ThrowingConsumer;
 │     │  ├─ input: 4 ✔
 │     │  ├─ input: 6 ✔
 │     │  └─ input: 8 ✔
+│     ├─ lazilyNestedDynamicContainers() ✔
+│        │  2026-10-18T09:06:01.231722191
+│        │     State = `BeforeEach`
+│        │     Test = `lazilyNestedDynamicContainers()`
+│        │  2026-10-18T09:06:01.335568949
+│        │     State = `AfterEach`
+│        │     Test = `lazilyNestedDynamicContainers()`
+│     │  └─ 0 to 99 ✔
+│     │     ├─ 0 to 9 ✔
+│     │     │  ├─ input: 0 ✔
+│     │     │  ├─ input: 1 ✔
+│     │     │  ├─ ... 7 more
+│     │     │  └─ input: 9 ✔
+│     │     ├─ 10 to 19 ✔
+│     │     │  ├─ input: 10 ✔
+│     │     │  ├─ input: 11 ✔
+│     │     │  ├─ ... 7 more
+│     │     │  └─ input: 19 ✔
+│     │     ├─ ... 7 more
+│     │     └─ 90 to 99 ✔
+│     │        ├─ input: 90 ✔
+│     │        ├─ input: 91 ✔
+│     │        ├─ ... 7 more
+│     │        └─ input: 99 ✔
+│     ├─ dynamicNumberOfTestsWithoutBoxing() ✔
+│        │  2020-04-14T19:19:00.162011
+│        │     State = `BeforeEach`
+│        │     Test = `dynamicNumberOfTestsWithoutBoxing()`
+│        │  2020-04-14T19:19:00.162402
+│        │     State = `AfterEach`
+│        │     Test = `dynamicNumberOfTestsWithoutBoxing()`
+│     │  ├─ input: 0 ✔
+│     │  ├─ input: 2 ✔
+│     │  ├─ input: 4 ✔
+│     │  ├─ input: 6 ✔
+│     │  └─ input: 8 ✔
 │     ├─ iterableDynamicTests() ✔
 │        │  2020-04-14T19:19:00.162679
 │        │     State = `BeforeEach`
@@ -86,6 +124,38 @@ import org.junit.jupiter.api.function.ThrowingConsumer;
 │        │     Test = `iterableDynamicTests()`
 │     │  ├─ mom ✔
 │     │  └─ dad ✔
+│     ├─ chunkedDynamicTests() ✔
+│        │  2026-10-18T09:06:01.370012977
+│        │     State = `BeforeEach`
+│        │     Test = `chunkedDynamicTests()`
+│        │  2026-10-18T09:06:01.575081529
+│        │     State = `AfterEach`
+│        │     Test = `chunkedDynamicTests()`
+│     │  ├─ inputs 0 to 99 ✔
+│     │  │  ├─ input: 0 ✔
+│     │  │  ├─ input: 2 ✔
+│     │  │  ├─ ... 97 more
+│     │  │  └─ input: 198 ✔
+│     │  ├─ inputs 100 to 199 ✔
+│     │  │  ├─ input: 200 ✔
+│     │  │  ├─ input: 202 ✔
+│     │  │  ├─ ... 97 more
+│     │  │  └─ input: 398 ✔
+│     │  ├─ inputs 200 to 299 ✔
+│     │  │  ├─ input: 400 ✔
+│     │  │  ├─ input: 402 ✔
+│     │  │  ├─ ... 97 more
+│     │  │  └─ input: 598 ✔
+│     │  ├─ inputs 300 to 399 ✔
+│     │  │  ├─ input: 600 ✔
+│     │  │  ├─ input: 602 ✔
+│     │  │  ├─ ... 97 more
+│     │  │  └─ input: 798 ✔
+│     │  └─ inputs 400 to 499 ✔
+│     │     ├─ input: 800 ✔
+│     │     ├─ input: 802 ✔
+│     │     ├─ ... 97 more
+│     │     └─ input: 998 ✔
 │     ├─ intStreamOfDynamicTests() ✔
 │        │  2020-04-14T19:19:00.165163
 │        │     State = `BeforeEach`
@@ -215,4 +285,47 @@ class DynamicTestsDemo {
 
         return DynamicTest.stream(evenNumsGenerator, displayNameGenerator, testExecutor);
     }
+
+    /**
+     * Same tests as {@link #dynamicNumberOfTests()}, but the inputs come from an
+     * <code>IntStream</code>: <code>DynamicTest.stream()</code> takes an <code>Iterator</code> of
+     * objects, so mapping the primitive values to <code>DynamicTest</code>s directly avoids boxing
+     * each input.
+     */
+    @TestFactory
+    Stream<DynamicNode> dynamicNumberOfTestsWithoutBoxing() {
+        return EvenNumbersGenerator.evens().intStream().mapToObj(input ->
+            dynamicTest("input: " + input, () -> assertTrue((input & 1) == 0))
+        );
+    }
+
+    /**
+     * Same tests as {@link #dynamicNumberOfTests()}, for many more inputs: the tests are grouped
+     * in <code>DynamicContainer</code>s of 100, and each chunk of inputs is only read from the
+     * <code>Spliterator</code>, and its tests created, when the chunk is executed.
+     */
+    @TestFactory
+    Stream<DynamicContainer> chunkedDynamicTests() {
+        return DynamicNodes.intChunks(EvenNumbersGenerator.evens(0, 1_000).intSpliterator(), 100,
+            DynamicNodes.INDEX_RANGE, input -> "input: " + input,
+            input -> assertTrue((input & 1) == 0)
+        );
+    }
+
+    /**
+     * A tree of containers for the tens and tests for the units of 0 to 99, where the children of
+     * each container are only generated when the container is executed.
+     */
+    @TestFactory
+    DynamicNode lazilyNestedDynamicContainers() {
+        return DynamicNodes.container("0 to 99",
+            () -> EvenNumbersGenerator.range(0, 100, 10).intSpliterator(),
+            tens -> DynamicNodes.container(tens + " to " + (tens + 9),
+                () -> EvenNumbersGenerator.range(tens, tens + 10, 1).intSpliterator(),
+                input -> dynamicTest("input: " + input,
+                    () -> assertEquals(tens, input - input % 10)
+                )
+            )
+        );
+    }
 }
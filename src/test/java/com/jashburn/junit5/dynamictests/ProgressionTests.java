@@ -0,0 +1,113 @@
+package com.jashburn.junit5.dynamictests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class ProgressionTests {
+
+    @Test
+    void evensMatchGenerator() {
+        PrimitiveIterator.OfInt evens = EvenNumbersGenerator.evens().intIterator();
+        Iterator<Integer> generator = EvenNumbersGenerator.generator();
+        while (generator.hasNext()) {
+            assertEquals(generator.next(), evens.nextInt());
+        }
+        assertFalse(evens.hasNext());
+        assertThrows(NoSuchElementException.class, evens::nextInt);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0, 10, 2, 5", "1, 10, 2, 5", "-3, 4, 2, 4", "5, 5, 1, 0", "9, 5, 1, 0",
+            "0, 1000000, 7, 142858"})
+    void size(long start, long end, long step, long size) {
+        Progression progression = EvenNumbersGenerator.range(start, end, step);
+        assertEquals(size, progression.size());
+        assertEquals(size, progression.intStream().count());
+    }
+
+    @Test
+    void oddBoundsAreRoundedUpToEven() {
+        assertArrayEquals(new int[] {-2, 0, 2},
+                EvenNumbersGenerator.evens(-3, 3).intStream().toArray());
+    }
+
+    @Test
+    void parallelStreamVisitsEveryElementOnce() {
+        Progression progression = EvenNumbersGenerator.range(-500_000, 1_000_000, 3);
+        long expected = 0;
+        for (long i = 0; i < progression.size(); i++) {
+            expected += progression.get(i);
+        }
+        assertEquals(expected, progression.intStream().parallel().asLongStream().sum());
+        assertArrayEquals(progression.intStream().toArray(),
+                progression.intStream().parallel().toArray());
+    }
+
+    @Test
+    void intSpliteratorSplitsInHalf() {
+        Spliterator.OfInt suffix = EvenNumbersGenerator.range(0, 101, 1).intSpliterator();
+        Spliterator.OfInt prefix = suffix.trySplit();
+        assertNotNull(prefix);
+        assertEquals(50, prefix.estimateSize());
+        assertEquals(51, suffix.estimateSize());
+        assertEquals(IntStream.range(0, 50).sum(), sum(prefix));
+        assertEquals(IntStream.range(50, 101).sum(), sum(suffix));
+    }
+
+    @Test
+    void longSpliteratorSplitsBillionsEvenly() {
+        Progression progression = EvenNumbersGenerator.evens(0, 6_000_000_000L);
+        Spliterator.OfLong suffix = progression.longSpliterator();
+        assertEquals(3_000_000_000L, suffix.getExactSizeIfKnown());
+        assertTrue(suffix.hasCharacteristics(Spliterator.SUBSIZED | Spliterator.ORDERED));
+
+        Spliterator.OfLong prefix = suffix.trySplit();
+        Spliterator.OfLong secondQuarter = prefix.trySplit();
+        assertEquals(750_000_000L, prefix.estimateSize());
+        assertEquals(750_000_000L, secondQuarter.estimateSize());
+        assertEquals(1_500_000_000L, suffix.estimateSize());
+
+        long[] first = {-1};
+        assertTrue(suffix.tryAdvance((long value) -> first[0] = value));
+        assertEquals(3_000_000_000L, first[0]);
+    }
+
+    @Test
+    void parallelLongStreamMatchesSequential() {
+        Progression progression = EvenNumbersGenerator.range(Long.MIN_VALUE, 0, 1L << 40);
+        assertEquals(progression.longStream(false).sum(), progression.longStream(true).sum());
+        assertArrayEquals(progression.longStream(false).toArray(),
+                progression.longStream(true).toArray());
+
+        Progression large = EvenNumbersGenerator.evens(0, 20_000_000);
+        long n = large.size();
+        assertEquals(n * (n - 1), large.longStream(true).sum());
+    }
+
+    @Test
+    void invalidProgressions() {
+        assertThrows(IllegalArgumentException.class, () -> EvenNumbersGenerator.range(0, 10, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> EvenNumbersGenerator.range(Long.MIN_VALUE, Long.MAX_VALUE, 1));
+        assertThrows(IllegalStateException.class,
+                () -> EvenNumbersGenerator.range(0, Long.MAX_VALUE, 1).intIterator());
+    }
+
+    private static long sum(Spliterator.OfInt spliterator) {
+        long[] sum = {0};
+        spliterator.forEachRemaining((int value) -> sum[0] += value);
+        return sum[0];
+    }
+}
@@ -12,6 +12,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.junit.jupiter.api.parallel.Resources;
 
 /**
  * Demonstration of nested tests.
@@ -44,8 +46,12 @@ import org.junit.jupiter.api.Test;
  * - WhenNew: isEmpty
  * (AfterEach): doNothing
  * </pre>
+ * <p>
+ * The lock on {@code System.out} keeps this output from interleaving with that of other classes
+ * when tests run in parallel.
  */
 @DisplayName("A stack")
+@ResourceLock(Resources.SYSTEM_OUT)
 class TestingAStackDemo {
 
     Stack<Object> stack;
@@ -0,0 +1,81 @@
+package com.jashburn.junit5.parallelexecution;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * Reports the wall-clock time of a test run against the summed execution time of its top-level
+ * containers (the test classes), which is roughly what the run would have taken serially. The
+ * ratio of the two is the speedup from parallel execution. When there are fewer processors than
+ * worker threads, classes that share a processor each count the other's time too, and the ratio
+ * overstates the speedup: compare the wall clock with that of a serial run as well.
+ * <p>
+ * Registered via {@code META-INF/services/org.junit.platform.launcher.TestExecutionListener}, but
+ * silent unless the {@value #REPORT_PROPERTY} system property is {@code true}, as it is in the
+ * {@code parallel} Maven profile.
+ */
+public class ExecutionTimeListener implements TestExecutionListener {
+
+    static final String REPORT_PROPERTY = "junit5.execution.time.report";
+
+    private static final String PARALLEL_PROPERTY = "junit.jupiter.execution.parallel.enabled";
+
+    private final Map<TestIdentifier, Long> startTimes = new ConcurrentHashMap<>();
+    private final LongAdder classNanos = new LongAdder();
+    private final LongAdder tests = new LongAdder();
+    private volatile TestPlan testPlan;
+    private long planStart;
+
+    @Override
+    public void testPlanExecutionStarted(TestPlan testPlan) {
+        this.testPlan = testPlan;
+        startTimes.clear();
+        classNanos.reset();
+        tests.reset();
+        planStart = System.nanoTime();
+    }
+
+    @Override
+    public void executionStarted(TestIdentifier testIdentifier) {
+        if (isTopLevelContainer(testIdentifier)) {
+            startTimes.put(testIdentifier, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier testIdentifier,
+            TestExecutionResult testExecutionResult) {
+        Long start = startTimes.remove(testIdentifier);
+        if (start != null) {
+            classNanos.add(System.nanoTime() - start);
+        }
+        if (testIdentifier.isTest()) {
+            tests.increment();
+        }
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        if (!Boolean.getBoolean(REPORT_PROPERTY)) {
+            return;
+        }
+        long wallNanos = System.nanoTime() - planStart;
+        long serialNanos = classNanos.sum();
+        System.out.printf("%d tests (parallel execution %s, %d processors): "
+                + "wall clock %d ms, summed class time %d ms, speedup %.2fx%n", tests.sum(),
+                Boolean.getBoolean(PARALLEL_PROPERTY) ? "enabled" : "disabled",
+                Runtime.getRuntime().availableProcessors(), wallNanos / 1_000_000,
+                serialNanos / 1_000_000, wallNanos == 0 ? 1.0 : (double) serialNanos / wallNanos);
+    }
+
+    /** Children of an engine, e.g., test classes, which are what run concurrently by default. */
+    private boolean isTopLevelContainer(TestIdentifier testIdentifier) {
+        return testIdentifier.isContainer() && testPlan.getParent(testIdentifier)
+                .map(testPlan.getRoots()::contains).orElse(false);
+    }
+}
@@ -0,0 +1,118 @@
+package com.jashburn.junit5.parameterizedtests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class BookCatalogueTests {
+
+    private final BookCatalogue catalogue = new BookCatalogue();
+
+    @Test
+    void canonicalizesBooksByTitle() {
+        Book book = catalogue.book("42 Cats");
+
+        assertSame(book, catalogue.book(new String("42 Cats")));
+        assertEquals("42 Cats", book.getTitle());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"effective java", "EFFECTIVE JAVA", "Effective Java"})
+    void findsTitlesIgnoringCase(String title) {
+        catalogue.addAll(List.of("Effective Java", "Java Concurrency in Practice", "42 Cats"));
+
+        Optional<Book> found = catalogue.find(title);
+
+        assertEquals("Effective Java", found.map(Book::getTitle).orElse(null));
+        assertSame(catalogue.book("Effective Java"), found.get());
+        assertTrue(catalogue.find("Effective").isEmpty());
+    }
+
+    @Test
+    void findsTitlesByPrefixInOrder() {
+        catalogue.addAll(List.of("The Hobbit", "the hobbit", "The Road", "Thinking in Java", "Tao"));
+        catalogue.add("The Hobbit");
+
+        assertEquals(5, catalogue.size());
+        assertEquals(List.of("The Hobbit", "the hobbit", "The Road"), titles("the ", 10));
+        assertEquals(List.of("The Hobbit"), titles("THE", 1));
+        assertEquals(List.of(), titles("Zen", 10));
+        assertEquals(5, titles("", 10).size());
+    }
+
+    @Test
+    void handlesTitlesBeyondLatin1() {
+        catalogue.addAll(List.of("Ελληνικά", "ελληνική γλώσσα", "Éclair", "éclairs"));
+
+        assertEquals(List.of("Ελληνικά", "ελληνική γλώσσα"),
+                titles("ΕΛΛΗΝΙΚ", 10));
+        assertEquals(List.of("Éclair", "éclairs"), titles("ÉCLAIR", 10));
+    }
+
+    @Test
+    void indexesTitlesAddedAfterASearch() {
+        catalogue.add("Dune");
+        assertEquals(List.of("Dune"), titles("d", 10));
+
+        catalogue.add("Dracula");
+
+        assertEquals(List.of("Dracula", "Dune"), titles("d", 10));
+    }
+
+    @Test
+    void mergesBatchesIntoTheIndex() {
+        catalogue.addAll(List.of("Emma", "Beloved", "Atonement"));
+        assertEquals(3, catalogue.size());
+
+        catalogue.addAll(List.of("emma", "Emma", "Carrie", "Zazie", "Beloved", "Aa"));
+        assertEquals(7, catalogue.size());
+        assertEquals(List.of("Aa", "Atonement", "Beloved", "Carrie", "Emma", "emma", "Zazie"),
+                titles("", 10));
+
+        catalogue.add("Æsop");
+        catalogue.add("Ωmega");
+        assertEquals(9, catalogue.size());
+        assertEquals(List.of("Emma", "emma", "Zazie", "Æsop", "Ωmega"),
+                titles("", 10).subList(4, 9));
+        assertEquals("Atonement", catalogue.find("ATONEMENT").map(Book::getTitle).orElse(null));
+    }
+
+    @Test
+    void matchesSortedSetOfRandomTitles() {
+        SplittableRandom random = new SplittableRandom(11);
+        List<String> titles = IntStream.range(0, 5000)
+                .mapToObj(i -> random.ints(1 + random.nextInt(8), 'a', 'e')
+                        .map(c -> random.nextBoolean() ? Character.toUpperCase(c) : c)
+                        .collect(StringBuilder::new, StringBuilder::appendCodePoint,
+                                StringBuilder::append)
+                        .toString())
+                .collect(Collectors.toList());
+        for (int from = 0; from < titles.size(); from += 1000) {
+            // search between batches, so that each batch is merged into an existing index
+            catalogue.addAll(titles.subList(from, from + 1000));
+            catalogue.size();
+        }
+
+        for (String prefix : List.of("a", "Bc", "dAd", "ee")) {
+            TreeSet<String> expected = new TreeSet<>(titles.stream()
+                    .filter(t -> t.regionMatches(true, 0, prefix, 0, prefix.length()))
+                    .collect(Collectors.toSet()));
+            assertEquals(expected, new TreeSet<>(titles(prefix, Integer.MAX_VALUE)), prefix);
+        }
+    }
+
+    private List<String> titles(String prefix, int limit) {
+        return catalogue.startingWith(prefix, limit).stream()
+                .map(Book::getTitle)
+                .collect(Collectors.toList());
+    }
+}
@@ -2,6 +2,7 @@ package com.jashburn.junit5.parameterizedtests;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvFileSource;
 
@@ -13,4 +14,19 @@ class CsvFileSourceTests {
         assertNotNull(country);
         assertEquals(country.length(), numOfLetters);
     }
+
+    @ParameterizedTest
+    @MappedCsvFileSource(resources = "/csv_file_resource.csv", numLinesToSkip = 1)
+    void testWithMappedCsvFileSource(String country, int numOfLetters) {
+        assertNotNull(country);
+        assertEquals(country.length(), numOfLetters);
+    }
+
+    @ParameterizedTest
+    @MappedCsvFileSource(resources = "/csv_quoted_resource.csv", numLinesToSkip = 2)
+    void testWithQuotedValues(String title, String author, int pages) {
+        assertNotNull(title);
+        assertTrue(author == null || !author.isBlank());
+        assertTrue(pages >= 0);
+    }
 }
@@ -0,0 +1,270 @@
+package com.jashburn.junit5.parameterizedtests;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.support.AnnotationConsumer;
+import org.junit.platform.commons.PreconditionViolationException;
+
+/**
+ * {@link ArgumentsProvider} behind {@link MappedCsvFileSource}. Each file is mapped in windows of
+ * at most {@value #WINDOW_SIZE} bytes, so files of any size can be read, and rows are tokenized
+ * only as the stream of arguments is consumed. A file is closed when its last row has been read,
+ * or when the stream is closed.
+ */
+class MappedCsvArgumentsProvider implements ArgumentsProvider,
+        AnnotationConsumer<MappedCsvFileSource> {
+
+    static final int WINDOW_SIZE = 64 * 1024 * 1024;
+
+    private static final byte QUOTE = '"';
+    private static final byte COMMENT = '#';
+
+    private MappedCsvFileSource annotation;
+
+    @Override
+    public void accept(MappedCsvFileSource annotation) {
+        this.annotation = annotation;
+    }
+
+    @Override
+    public Stream<? extends Arguments> provideArguments(ExtensionContext context) {
+        List<Path> paths = new ArrayList<>();
+        for (String resource : annotation.resources()) {
+            paths.add(resourcePath(context.getRequiredTestClass(), resource));
+        }
+        for (String file : annotation.files()) {
+            paths.add(Paths.get(file));
+        }
+        if (paths.isEmpty()) {
+            throw new PreconditionViolationException(
+                    "Resources or files must not be empty for @MappedCsvFileSource");
+        }
+        return paths.stream()
+                .flatMap(path -> rows(path, annotation.delimiter(), annotation.numLinesToSkip()))
+                .map(Arguments::of);
+    }
+
+    /**
+     * @return the rows of {@code file} after the first {@code numLinesToSkip} lines, tokenized
+     *         lazily
+     */
+    static Stream<Object[]> rows(Path file, char delimiter, int numLinesToSkip) {
+        if (delimiter >= 0x80 || delimiter == QUOTE || delimiter == '\n' || delimiter == '\r') {
+            throw new PreconditionViolationException("Unsupported delimiter: " + delimiter);
+        }
+        RowSpliterator rows;
+        try {
+            rows = new RowSpliterator(FileChannel.open(file), (byte) delimiter);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open " + file, e);
+        }
+        rows.skipLines(numLinesToSkip);
+        return StreamSupport.stream(rows, false).onClose(rows::close);
+    }
+
+    private static Path resourcePath(Class<?> testClass, String resource) {
+        URL url = testClass.getResource(resource);
+        if (url == null) {
+            throw new PreconditionViolationException("Classpath resource does not exist: "
+                    + resource);
+        }
+        if (!"file".equals(url.getProtocol())) {
+            throw new PreconditionViolationException(
+                    "Classpath resource is not a plain file and cannot be mapped: " + url);
+        }
+        try {
+            return Paths.get(url.toURI());
+        } catch (URISyntaxException e) {
+            throw new PreconditionViolationException("Invalid resource URL: " + url, e);
+        }
+    }
+
+    /**
+     * Reads a mapped file byte by byte, tokenizing one row per {@link #tryAdvance(Consumer)}.
+     */
+    private static final class RowSpliterator extends Spliterators.AbstractSpliterator<Object[]> {
+
+        private final FileChannel channel;
+        private final long size;
+        private final byte delimiter;
+        private MappedByteBuffer window;
+        private long windowStart;
+        private long position;
+        /** Bytes of the field being read, reused across fields and rows. */
+        private byte[] field = new byte[64];
+        private int fieldLength;
+
+        RowSpliterator(FileChannel channel, byte delimiter) throws IOException {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.channel = channel;
+            this.size = channel.size();
+            this.delimiter = delimiter;
+        }
+
+        void skipLines(int lines) {
+            for (int i = 0; i < lines && position < size; i++) {
+                int b;
+                while ((b = next()) >= 0 && b != '\n' && b != '\r') {
+                    // skip the rest of the line
+                }
+                skipLineFeedAfterCarriageReturn(b);
+            }
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Object[]> action) {
+            while (position < size) {
+                if (peek() == COMMENT || isBlankLine()) {
+                    // comments and blank (or whitespace only) lines are not rows, as in
+                    // @CsvFileSource
+                    skipLines(1);
+                    continue;
+                }
+                action.accept(readRow());
+                return true;
+            }
+            close();
+            return false;
+        }
+
+        private boolean isBlankLine() {
+            int b;
+            for (long at = position; (b = byteAt(at)) == ' ' || b == '\t'; at++) {
+                // look past leading blanks, without consuming them
+            }
+            return b < 0 || b == '\n' || b == '\r';
+        }
+
+        private Object[] readRow() {
+            List<String> values = new ArrayList<>();
+            while (true) {
+                int b = readField(values);
+                if (b != delimiter) {
+                    skipLineFeedAfterCarriageReturn(b);
+                    return values.toArray();
+                }
+            }
+        }
+
+        /**
+         * Reads a field into {@code values}.
+         *
+         * @return the byte that ended the field: the delimiter, a line break, or -1 at the end
+         */
+        private int readField(List<String> values) {
+            fieldLength = 0;
+            int b = skipBlanks(next());
+            if (b == QUOTE) {
+                while ((b = next()) >= 0) {
+                    if (b == QUOTE) {
+                        if (peek() != QUOTE) {
+                            break;
+                        }
+                        next();
+                    }
+                    append(b);
+                }
+                if (b < 0) {
+                    throw new IllegalStateException("Unterminated quoted field at byte "
+                            + position);
+                }
+                values.add(new String(field, 0, fieldLength, StandardCharsets.UTF_8));
+                b = skipBlanks(next());
+                if (b >= 0 && b != delimiter && b != '\n' && b != '\r') {
+                    throw new IllegalStateException("Unexpected character after quoted field"
+                            + " at byte " + (position - 1));
+                }
+                return b;
+            }
+            int trimmedLength = 0;
+            while (b >= 0 && b != delimiter && b != '\n' && b != '\r') {
+                append(b);
+                if (b != ' ' && b != '\t') {
+                    trimmedLength = fieldLength;
+                }
+                b = next();
+            }
+            values.add(trimmedLength == 0 ? null
+                    : new String(field, 0, trimmedLength, StandardCharsets.UTF_8));
+            return b;
+        }
+
+        private int skipBlanks(int b) {
+            while (b == ' ' || b == '\t') {
+                b = next();
+            }
+            return b;
+        }
+
+        private void skipLineFeedAfterCarriageReturn(int b) {
+            if (b == '\r' && peek() == '\n') {
+                next();
+            }
+        }
+
+        private void append(int b) {
+            if (fieldLength == field.length) {
+                field = Arrays.copyOf(field, field.length * 2);
+            }
+            field[fieldLength++] = (byte) b;
+        }
+
+        private int peek() {
+            return byteAt(position);
+        }
+
+        private int byteAt(long at) {
+            if (at >= size) {
+                return -1;
+            }
+            return window(at).get((int) (at - windowStart)) & 0xFF;
+        }
+
+        private int next() {
+            int b = peek();
+            if (b >= 0) {
+                position++;
+            }
+            return b;
+        }
+
+        private MappedByteBuffer window(long at) {
+            if (window == null || at < windowStart || at >= windowStart + window.capacity()) {
+                try {
+                    windowStart = at;
+                    window = channel.map(MapMode.READ_ONLY, at, Math.min(WINDOW_SIZE, size - at));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return window;
+        }
+
+        void close() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.jashburn.junit5.parameterizedtests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedCsvArgumentsProviderTests {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void tokenizesQuotedFieldsAndComments() throws IOException {
+        Path file = write("# comment\n"
+                + "a, \"b, c\" ,d\r\n"
+                + "\r\n"
+                + " \t \n"
+                + "\"multi\nline\",\"say \"\"hi\"\"\",\n"
+                + "  ,\"\",Zoë\n"
+                + "  ");
+
+        List<Object[]> rows = rows(file, ',', 0);
+
+        assertEquals(3, rows.size());
+        assertArrayEquals(new Object[] {"a", "b, c", "d"}, rows.get(0));
+        assertArrayEquals(new Object[] {"multi\nline", "say \"hi\"", null}, rows.get(1));
+        assertArrayEquals(new Object[] {null, "", "Zoë"}, rows.get(2));
+    }
+
+    @Test
+    void skipsLinesAndSupportsOtherDelimiters() throws IOException {
+        Path file = write("name|count\nx|1\ny|2\n");
+
+        List<Object[]> rows = rows(file, '|', 1);
+
+        assertArrayEquals(new Object[] {"x", "1"}, rows.get(0));
+        assertArrayEquals(new Object[] {"y", "2"}, rows.get(1));
+    }
+
+    @Test
+    void tokenizesRowsLazily() throws IOException {
+        Path file = tempDir.resolve("large.csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            for (int i = 0; i < 200_000; i++) {
+                writer.write("row " + i + ", " + i + "\n");
+            }
+            writer.write("\"unterminated, 1\n");
+        }
+
+        // the malformed last row is only tokenized, and rejected, once it is reached
+        try (Stream<Object[]> rows = MappedCsvArgumentsProvider.rows(file, ',', 0)) {
+            Iterator<Object[]> iterator = rows.iterator();
+            assertArrayEquals(new Object[] {"row 0", "0"}, iterator.next());
+            assertArrayEquals(new Object[] {"row 1", "1"}, iterator.next());
+        }
+        try (Stream<Object[]> rows = MappedCsvArgumentsProvider.rows(file, ',', 0)) {
+            assertEquals(200_000, rows.limit(200_000).count());
+        }
+        try (Stream<Object[]> rows = MappedCsvArgumentsProvider.rows(file, ',', 0)) {
+            assertThrows(IllegalStateException.class, rows::count);
+        }
+    }
+
+    @Test
+    void rejectsUnterminatedQuotes() throws IOException {
+        Path file = write("\"open, 1\n");
+
+        assertThrows(IllegalStateException.class, () -> rows(file, ',', 0));
+    }
+
+    private Path write(String content) throws IOException {
+        return Files.writeString(tempDir.resolve("test.csv"), content);
+    }
+
+    private static List<Object[]> rows(Path file, char delimiter, int numLinesToSkip) {
+        try (Stream<Object[]> rows =
+                MappedCsvArgumentsProvider.rows(file, delimiter, numLinesToSkip)) {
+            return rows.collect(Collectors.toList());
+        }
+    }
+}
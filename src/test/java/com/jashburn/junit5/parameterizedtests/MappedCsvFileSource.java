@@ -0,0 +1,36 @@
+package com.jashburn.junit5.parameterizedtests;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+/**
+ * Drop-in replacement for <code>{@literal @}CsvFileSource</code> for large fixture files: the file
+ * is memory-mapped and tokenized a row at a time as the arguments are consumed, so heap use does
+ * not grow with the size of the file.
+ * <p>
+ * As with <code>{@literal @}CsvFileSource</code>, lines beginning with {@code #} are comments, the
+ * quote character is {@code "} (with {@code ""} standing for a quote inside a quoted field),
+ * unquoted values are trimmed, and an empty unquoted value is {@code null}. Files are read as
+ * UTF-8. Classpath resources must be plain files, not entries of a JAR.
+ */
+@Target({ElementType.ANNOTATION_TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@ArgumentsSource(MappedCsvArgumentsProvider.class)
+public @interface MappedCsvFileSource {
+
+    /** Classpath resources to read, such as {@code "/csv_file_resource.csv"}. */
+    String[] resources() default {};
+
+    /** File system paths to read. */
+    String[] files() default {};
+
+    char delimiter() default ',';
+
+    /** Number of lines to skip at the start of each file, such as a header. */
+    int numLinesToSkip() default 0;
+}
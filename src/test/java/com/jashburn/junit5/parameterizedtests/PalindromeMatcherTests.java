@@ -0,0 +1,67 @@
+package com.jashburn.junit5.parameterizedtests;
+
+import static com.jashburn.junit5.parameterizedtests.PalindromeMatcher.Option.GRAPHEME_CLUSTERS;
+import static com.jashburn.junit5.parameterizedtests.PalindromeMatcher.Option.IGNORE_CASE;
+import static com.jashburn.junit5.parameterizedtests.PalindromeMatcher.Option.IGNORE_PUNCTUATION_AND_WHITESPACE;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class PalindromeMatcherTests {
+
+    private final PalindromeMatcher codePoints = PalindromeMatcher.of();
+    private final PalindromeMatcher sentences =
+            PalindromeMatcher.of(IGNORE_CASE, IGNORE_PUNCTUATION_AND_WHITESPACE);
+    private final PalindromeMatcher graphemes = PalindromeMatcher.of(GRAPHEME_CLUSTERS);
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "a", "racecar", "😀", "😀a😀", "a𝄞b𝄞a"})
+    void codePointPalindromes(String candidate) {
+        assertTrue(codePoints.matches(candidate));
+    }
+
+    @Test
+    void supplementaryCharactersAreNotSplit() {
+        assertFalse(StringUtils.isPalindrome("😀"), "UTF-16 code units are not mirrored");
+        assertTrue(codePoints.matches("😀"));
+        assertFalse(codePoints.matches("😀😁"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"A man, a plan, a canal: Panama!", "Was it a car or a cat I saw?",
+            "No 'x' in Nixon", "  ", ".,;", "Madam, I'm Adam"})
+    void sentencePalindromes(String candidate) {
+        assertTrue(sentences.matches(candidate));
+    }
+
+    @Test
+    void caseAndPunctuationAreSignificantByDefault() {
+        assertFalse(codePoints.matches("Racecar"));
+        assertFalse(codePoints.matches("race car"));
+        assertFalse(sentences.matches("A man, a plan, a canal: Suez"));
+    }
+
+    @Test
+    void combiningMarksStayWithTheirBase() {
+        // "é" written as 'e' followed by COMBINING ACUTE ACCENT
+        String decomposed = "été";
+        assertFalse(codePoints.matches(decomposed));
+        assertTrue(graphemes.matches(decomposed));
+        assertFalse(graphemes.matches("étè"));
+    }
+
+    @Test
+    void emojiSequencesStayTogether() {
+        // WOMAN, ZWJ, LAPTOP forms a single "woman technologist" cluster
+        String technologist = "👩‍💻";
+        assertTrue(graphemes.matches(technologist + "x" + technologist));
+        assertFalse(codePoints.matches(technologist + "x" + technologist));
+    }
+
+    @Test
+    void nullIsAPalindrome() {
+        assertTrue(sentences.matches(null));
+    }
+}
@@ -0,0 +1,181 @@
+package com.jashburn.junit5.parameterizedtests;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class StringUtilsTests {
+
+    @Test
+    void bulkCheck() {
+        CharSequence[] candidates = {"racecar", new StringBuilder("abba"), "abc", null, ""};
+        assertArrayEquals(new boolean[] {true, true, false, true, true},
+                StringUtils.arePalindromes(candidates));
+    }
+
+    @Test
+    void nullIsAPalindromeForEveryOverload() {
+        assertTrue(StringUtils.isPalindrome(null));
+        assertTrue(StringUtils.isPalindrome((CharSequence) null));
+        assertTrue(StringUtils.isPalindrome(null, 0, 0));
+        assertTrue(StringUtils.isPalindromeLatin1((byte[]) null));
+        assertTrue(StringUtils.isPalindromeLatin1(null, 0, 0));
+        assertTrue(StringUtils.isPalindromeLatin1((ByteBuffer) null));
+        assertTrue(StringUtils.isPalindromeUtf8(null));
+    }
+
+    @Test
+    void filterParallelStream() {
+        List<String> palindromes = StringUtils
+                .palindromes(Stream.of("mom", "dad", "son", "radar", "daughter").parallel())
+                .collect(Collectors.toList());
+        assertEquals(List.of("mom", "dad", "radar"), palindromes);
+    }
+
+    /**
+     * Lengths either side of the 8 and 16 byte boundaries, so that both the word-sized comparison
+     * and the byte-by-byte tail are exercised.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 7, 8, 9, 15, 16, 17, 31, 32, 33, 100})
+    void latin1AgreesWithString(int length) {
+        String palindrome = palindrome(length);
+        assertTrue(StringUtils.isPalindromeLatin1(palindrome.getBytes(ISO_8859_1)));
+
+        for (int i = 0; i < length; i++) {
+            char[] chars = palindrome.toCharArray();
+            chars[i] = 'Ø';
+            String candidate = new String(chars);
+            assertEquals(StringUtils.isPalindrome(candidate),
+                    StringUtils.isPalindromeLatin1(candidate.getBytes(ISO_8859_1)), candidate);
+        }
+    }
+
+    @Test
+    void latin1Slice() {
+        byte[] bytes = "xxrotatorxx".getBytes(ISO_8859_1);
+        assertTrue(StringUtils.isPalindromeLatin1(bytes, 2, 7));
+        assertFalse(StringUtils.isPalindromeLatin1(bytes, 1, 7));
+    }
+
+    @Test
+    void charSequenceSlices() {
+        assertTrue(StringUtils.isPalindrome(new StringBuilder("step on no pets")));
+        assertTrue(StringUtils.isPalindrome(CharBuffer.wrap("--level--", 2, 7)));
+        assertFalse(StringUtils.isPalindrome(CharBuffer.wrap("--level--", 1, 7)));
+    }
+
+    @Test
+    void charArraySlices() {
+        char[] chars = "..refer..".toCharArray();
+        assertTrue(StringUtils.isPalindrome(chars, 2, 5));
+        assertTrue(StringUtils.isPalindrome(chars, 0, 0));
+        assertFalse(StringUtils.isPalindrome(chars, 1, 5));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 8, 15, 16, 17, 40})
+    void heapAndDirectByteBuffers(int length) {
+        byte[] bytes = ("<<" + palindrome(length) + ">>").getBytes(ISO_8859_1);
+        ByteBuffer heap = ByteBuffer.wrap(bytes);
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+
+        for (ByteBuffer buffer : List.of(heap, direct)) {
+            buffer.position(2).limit(bytes.length - 2);
+            assertTrue(StringUtils.isPalindromeLatin1(buffer.slice()));
+            assertTrue(StringUtils.isPalindromeLatin1(buffer));
+            assertEquals(2, buffer.position(), "position is left unchanged");
+
+            buffer.position(1);
+            assertEquals(length == 0, StringUtils.isPalindromeLatin1(buffer));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "é", "été", "日本日", "😀a😀", "ab😀ba", "añña"})
+    void utf8Palindromes(String candidate) {
+        assertTrue(StringUtils.isPalindromeUtf8(ByteBuffer.wrap(candidate.getBytes(UTF_8))));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ét", "日本", "😀a😁", "añn"})
+    void utf8NonPalindromes(String candidate) {
+        assertFalse(StringUtils.isPalindromeUtf8(ByteBuffer.wrap(candidate.getBytes(UTF_8))));
+    }
+
+    @Test
+    void utf8MalformedBytes() {
+        byte[] loneContinuation = {'a', (byte) 0x80, 'a'};
+        assertTrue(StringUtils.isPalindromeUtf8(ByteBuffer.wrap(loneContinuation)));
+        byte[] truncated = {(byte) 0xC3, 'a', (byte) 0xA9};
+        assertFalse(StringUtils.isPalindromeUtf8(ByteBuffer.wrap(truncated)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "a", "ab", "babad", "cbbd", "forgeeksskeegfor", "abacdfgdcaba"})
+    void longestPalindromeAgreesWithBruteForce(String text) {
+        assertEquals(bruteForceLongest(text), StringUtils.longestPalindrome(text).toString());
+    }
+
+    @Test
+    void longestPalindromeOfRandomText() {
+        Random random = new Random(42);
+        for (int n = 0; n < 500; n++) {
+            char[] chars = new char[random.nextInt(40)];
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = (char) ('a' + random.nextInt(3));
+            }
+            String text = new String(chars);
+            assertEquals(bruteForceLongest(text), StringUtils.longestPalindrome(text).toString(),
+                    text);
+        }
+    }
+
+    @Test
+    void maximalSpans() {
+        List<String> spans = new ArrayList<>();
+        String text = "xabbaxyzracecar";
+        PalindromeSpans cursor = StringUtils.palindromeSpans(text, 3);
+        while (cursor.next()) {
+            spans.add(text.substring(cursor.start(), cursor.end()));
+        }
+        // "abba", "bb" and "cec" share a centre with a longer span, so are not maximal
+        assertEquals(List.of("xabbax", "racecar"), spans);
+    }
+
+    private static String bruteForceLongest(String text) {
+        String longest = "";
+        for (int i = 0; i < text.length(); i++) {
+            for (int j = i + longest.length() + 1; j <= text.length(); j++) {
+                String candidate = text.substring(i, j);
+                if (StringUtils.isPalindrome(candidate)) {
+                    longest = candidate;
+                }
+            }
+        }
+        return longest;
+    }
+
+    static String palindrome(int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < (length + 1) / 2; i++) {
+            char c = (char) ('a' + i % 26);
+            chars[i] = c;
+            chars[length - (i + 1)] = c;
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,63 @@
+package com.jashburn.junit5.testinterfaces;
+
+import static com.jashburn.junit5.testinterfaces.Rank.CORPORAL;
+import static com.jashburn.junit5.testinterfaces.Rank.LANCE_CORPORAL;
+import static com.jashburn.junit5.testinterfaces.Rank.PRIVATE;
+import static com.jashburn.junit5.testinterfaces.Rank.SERGEANT;
+import static com.jashburn.junit5.testinterfaces.Rank.STAFF_SERGEANT;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class RankStatisticsTests {
+
+    private final RankStatistics statistics = new RankStatistics();
+
+    @Test
+    void buildsRangeMasks() {
+        int mask = RankStatistics.between(CORPORAL, STAFF_SERGEANT);
+
+        assertEquals(EnumSet.range(CORPORAL, STAFF_SERGEANT), RankStatistics.ranks(mask));
+        assertTrue(RankStatistics.contains(mask, SERGEANT));
+        assertFalse(RankStatistics.contains(mask, LANCE_CORPORAL));
+        assertEquals(RankStatistics.maskOf(PRIVATE), RankStatistics.between(PRIVATE, PRIVATE));
+        assertEquals(EnumSet.allOf(Rank.class), RankStatistics.ranks(RankStatistics.ALL));
+        assertThrows(IllegalArgumentException.class,
+                () -> RankStatistics.between(SERGEANT, CORPORAL));
+    }
+
+    @Test
+    void countsByRankAndRange() {
+        statistics.record(PRIVATE, 10);
+        statistics.record(CORPORAL);
+        statistics.record(SERGEANT, 3);
+
+        assertEquals(10, statistics.count(PRIVATE));
+        assertEquals(4, statistics.count(RankStatistics.between(CORPORAL, STAFF_SERGEANT)));
+        assertEquals(13, statistics.count(RankStatistics.maskOf(PRIVATE, SERGEANT)));
+        assertEquals(14, statistics.total());
+        assertArrayEquals(new long[] {10, 0, 1, 3, 0}, statistics.toArray());
+        assertEquals(Map.of(PRIVATE, 10L, LANCE_CORPORAL, 0L, CORPORAL, 1L, SERGEANT, 3L,
+                STAFF_SERGEANT, 0L), statistics.toMap());
+
+        statistics.reset();
+        assertEquals(0, statistics.total());
+    }
+
+    @Test
+    void recordsConcurrently() {
+        Rank[] ranks = Rank.values();
+
+        IntStream.range(0, 100_000).parallel()
+                .forEach(i -> statistics.record(ranks[i % ranks.length]));
+
+        assertEquals(100_000, statistics.total());
+        assertEquals(20_000, statistics.count(STAFF_SERGEANT));
+    }
+}